@@ -0,0 +1,37 @@
+package com.poc.global.search.capture;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Requisição gravada pelo RequestCapture e reexecutada pelo harness de carga (mvn test -Pload -DloadHarness.replay=<arquivo>).
+ * Cada linha do arquivo de captura é uma requisição em JSON, por exemplo:
+ *
+ * {"type":"INGEST","tenantId":"cliente-a","fileId":10,"file":"texto do arquivo"}
+ * {"type":"UPLOAD","tenantId":"cliente-a","fileId":11,"file":"texto do arquivo"}
+ * {"type":"SEARCH","tenantId":"cliente-a","termToSearch":"contrato social","searchType":"EXACT"}
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CapturedRequest {
+
+	/**
+	 * INGEST é o /ocr/process (clientes Cloud), UPLOAD é o /ocr/upload multipart (clientes On-Premise) e SEARCH é o /search.
+	 */
+	public enum Type {
+		INGEST, UPLOAD, SEARCH
+	}
+
+	private Type type;
+	private String tenantId;
+	private Integer fileId;
+	private String file;
+	private String termToSearch;
+	private String searchType;
+}
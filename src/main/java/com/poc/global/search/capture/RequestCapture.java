@@ -0,0 +1,234 @@
+package com.poc.global.search.capture;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poc.global.search.rest.vo.OcrVO;
+import com.poc.global.search.rest.vo.SearchVO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Grava as requisições processadas pelos controllers no formato de CapturedRequest, uma por linha, para que o tráfego
+ * real possa ser reexecutado pelo harness de carga.
+ *
+ * Fica desligado enquanto global-search.capture.file estiver vazio. O arquivo contém o texto dos documentos dos
+ * clientes, por isso a captura deve ser ligada apenas durante a coleta e o arquivo removido após o uso.
+ *
+ * A gravação é feita por uma única thread em segundo plano, para não adicionar latência às requisições capturadas nem
+ * fazer a busca esperar pela gravação de uploads grandes. As requisições aguardam em uma fila limitada pela quantidade
+ * e pelo tamanho dos textos pendentes; quando a fila está cheia a requisição não é capturada. O arquivo de um upload não
+ * é lido na thread da requisição: ele é movido para um arquivo temporário ao lado do arquivo de captura e lido pela
+ * thread de gravação. A movimentação só evita a cópia quando os dois estão no mesmo sistema de arquivos que o
+ * diretório temporário do servidor.
+ */
+@Slf4j
+@Component
+public class RequestCapture {
+
+	private static final int MAX_QUEUED_REQUESTS = 10000;
+
+	// Tempo de espera por novas requisições antes de descarregar o buffer do arquivo
+	private static final long POLL_TIMEOUT_MILLIS = 100;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+	private final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(MAX_QUEUED_REQUESTS);
+	private final AtomicLong queuedBytes = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+
+	@Value("${global-search.capture.file:}")
+	private String file;
+
+	@Value("${global-search.capture.max-queued-bytes:67108864}")
+	private long maxQueuedBytes;
+
+	// Desligado enquanto a captura não está configurada ou depois de uma falha na gravação do arquivo
+	private volatile boolean running;
+	private Thread writerThread;
+
+	/**
+	 * Requisição pendente de gravação. Nos uploads, o texto está no arquivo temporário uploadFile.
+	 */
+	private record Entry(CapturedRequest request, Path uploadFile, long bytes) {
+	}
+
+	@PostConstruct
+	public void start() {
+		if (!isEnabled())
+			return;
+
+		running = true;
+		writerThread = new Thread(this::writeLoop, "request-capture");
+		writerThread.setDaemon(true);
+		writerThread.start();
+	}
+
+	/**
+	 * Grava as requisições que ainda estão na fila e encerra a thread de gravação.
+	 */
+	@PreDestroy
+	public void close() throws InterruptedException {
+		if (writerThread == null)
+			return;
+
+		running = false;
+		writerThread.join();
+	}
+
+	public boolean isEnabled() {
+		return file != null && !file.isBlank();
+	}
+
+	public long getDropped() {
+		return dropped.get();
+	}
+
+	/**
+	 * Captura uma requisição do /ocr/process. O texto não é copiado, a fila mantém a referência do objeto recebido.
+	 *
+	 * @param ocrVO O objeto recebido, com o tenant já resolvido.
+	 */
+	public void captureIngest(OcrVO ocrVO) {
+		if (!running)
+			return;
+
+		enqueue(new Entry(CapturedRequest.builder()
+				.type(CapturedRequest.Type.INGEST)
+				.tenantId(ocrVO.getTenantId())
+				.fileId(ocrVO.getFileId())
+				.file(ocrVO.getFile())
+				.build(), null, ocrVO.getFile().length()));
+	}
+
+	/**
+	 * Captura uma requisição do /ocr/upload.
+	 * Deve ser chamado depois do processamento, pois o arquivo recebido é movido para o arquivo temporário da captura.
+	 *
+	 * @param file O arquivo recebido.
+	 * @param fileId O ID do arquivo.
+	 * @param tenantId O ID do tenant já resolvido.
+	 */
+	public void captureUpload(MultipartFile file, int fileId, String tenantId) {
+		if (!running)
+			return;
+
+		// Evita mover o arquivo quando a requisição seria descartada
+		if (queue.remainingCapacity() == 0) {
+			drop();
+			return;
+		}
+
+		Path uploadFile = Path.of(this.file).toAbsolutePath().resolveSibling("upload-" + UUID.randomUUID() + ".txt");
+		try {
+			file.transferTo(uploadFile.toFile());
+		} catch (IOException e) {
+			log.warn("Error moving uploaded file " + fileId + " for capture", e);
+			return;
+		}
+
+		enqueue(new Entry(CapturedRequest.builder()
+				.type(CapturedRequest.Type.UPLOAD)
+				.tenantId(tenantId)
+				.fileId(fileId)
+				.build(), uploadFile, 0));
+	}
+
+	/**
+	 * Captura uma requisição do /search.
+	 *
+	 * @param searchVO O objeto recebido, com o tenant já resolvido.
+	 */
+	public void captureSearch(SearchVO searchVO) {
+		if (!running)
+			return;
+
+		enqueue(new Entry(CapturedRequest.builder()
+				.type(CapturedRequest.Type.SEARCH)
+				.tenantId(searchVO.getTenantId())
+				.termToSearch(searchVO.getTermToSearch())
+				.searchType(searchVO.getSearchType())
+				.build(), null, searchVO.getTermToSearch().length()));
+	}
+
+	private void enqueue(Entry entry) {
+		if (queuedBytes.addAndGet(entry.bytes()) > maxQueuedBytes || !queue.offer(entry)) {
+			queuedBytes.addAndGet(-entry.bytes());
+			deleteUploadFile(entry);
+			drop();
+		}
+	}
+
+	private void drop() {
+		long total = dropped.incrementAndGet();
+
+		if (total % 1000 == 1)
+			log.warn("Request capture queue is full, " + total + " requests dropped so far");
+	}
+
+	private void writeLoop() {
+		try (Writer writer = Files.newBufferedWriter(Path.of(file), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+			while (running || !queue.isEmpty()) {
+				Entry entry = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+				if (entry == null) {
+					writer.flush();
+					continue;
+				}
+
+				queuedBytes.addAndGet(-entry.bytes());
+				write(writer, entry);
+			}
+		} catch (IOException e) {
+			log.warn("Error writing captured requests to " + file + ", capture stopped", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			running = false;
+			queue.forEach(this::deleteUploadFile);
+			queue.clear();
+		}
+	}
+
+	private void write(Writer writer, Entry entry) throws IOException {
+		CapturedRequest request = entry.request();
+
+		try {
+			if (entry.uploadFile() != null)
+				request.setFile(Files.readString(entry.uploadFile(), StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			log.warn("Error reading uploaded file " + request.getFileId() + " for capture", e);
+			return;
+		} finally {
+			deleteUploadFile(entry);
+		}
+
+		objectMapper.writeValue(writer, request);
+		writer.write(System.lineSeparator());
+	}
+
+	private void deleteUploadFile(Entry entry) {
+		if (entry.uploadFile() == null)
+			return;
+
+		try {
+			Files.deleteIfExists(entry.uploadFile());
+		} catch (IOException e) {
+			log.warn("Error deleting capture file " + entry.uploadFile(), e);
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package com.poc.global.search.config;
+
+import com.poc.global.search.limiter.AdaptiveConcurrencyLimiter;
+import com.poc.global.search.limiter.AdmissionControlFilter;
+import com.poc.global.search.rest.controller.OcrController;
+import com.poc.global.search.rest.controller.SearchController;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class AdmissionControlConfiguration {
+
+  // Executa antes do DispatcherServlet, e portanto antes da leitura do corpo multipart, logo após o filtro de observação
+  private static final int FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+  @Value("${global-search.admission.retry-after-seconds:5}")
+  private long retryAfterSeconds;
+
+  @Value("${global-search.admission.ingest.initial-limit:4}")
+  private int ingestInitialLimit;
+
+  @Value("${global-search.admission.ingest.min-limit:1}")
+  private int ingestMinLimit;
+
+  @Value("${global-search.admission.ingest.max-limit:8}")
+  private int ingestMaxLimit;
+
+  @Value("${global-search.admission.ingest.max-queue-size:16}")
+  private int ingestMaxQueueSize;
+
+  @Value("${global-search.admission.ingest.queue-timeout-ms:5000}")
+  private long ingestQueueTimeout;
+
+  @Value("${global-search.admission.search.initial-limit:20}")
+  private int searchInitialLimit;
+
+  @Value("${global-search.admission.search.min-limit:4}")
+  private int searchMinLimit;
+
+  @Value("${global-search.admission.search.max-limit:100}")
+  private int searchMaxLimit;
+
+  @Value("${global-search.admission.search.max-queue-size:50}")
+  private int searchMaxQueueSize;
+
+  @Value("${global-search.admission.search.queue-timeout-ms:200}")
+  private long searchQueueTimeout;
+
+  @Bean
+  public AdaptiveConcurrencyLimiter ingestLimiter(MeterRegistry meterRegistry) {
+    return registerMetrics(new AdaptiveConcurrencyLimiter("ingest", ingestInitialLimit, ingestMinLimit, ingestMaxLimit,
+            ingestMaxQueueSize, ingestQueueTimeout), meterRegistry);
+  }
+
+  @Bean
+  public AdaptiveConcurrencyLimiter searchLimiter(MeterRegistry meterRegistry) {
+    return registerMetrics(new AdaptiveConcurrencyLimiter("search", searchInitialLimit, searchMinLimit, searchMaxLimit,
+            searchMaxQueueSize, searchQueueTimeout), meterRegistry);
+  }
+
+  /**
+   * Bulkhead de ingestão. O /ocr/reindex não é limitado: é uma tarefa de manutenção que pode levar minutos, e ocuparia
+   * uma permissão de ingestão durante toda a execução, além de distorcer a latência usada no cálculo do limite.
+   * O trailing slash é aceito pelo WebMvcConfig, por isso os dois formatos são registrados.
+   */
+  @Bean
+  public FilterRegistrationBean<AdmissionControlFilter> ingestAdmissionFilter(@Qualifier("ingestLimiter") AdaptiveConcurrencyLimiter ingestLimiter) {
+    return registerFilter(ingestLimiter, OcrController.BASE_URL + "/process", OcrController.BASE_URL + "/upload");
+  }
+
+  @Bean
+  public FilterRegistrationBean<AdmissionControlFilter> searchAdmissionFilter(@Qualifier("searchLimiter") AdaptiveConcurrencyLimiter searchLimiter) {
+    return registerFilter(searchLimiter, SearchController.BASE_URL);
+  }
+
+  private FilterRegistrationBean<AdmissionControlFilter> registerFilter(AdaptiveConcurrencyLimiter limiter, String... paths) {
+    FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(new AdmissionControlFilter(limiter, retryAfterSeconds));
+    registration.setName(limiter.getName() + "AdmissionFilter");
+    registration.setOrder(FILTER_ORDER);
+
+    for (String path : paths)
+      registration.addUrlPatterns(path, path + "/");
+
+    return registration;
+  }
+
+  private AdaptiveConcurrencyLimiter registerMetrics(AdaptiveConcurrencyLimiter limiter, MeterRegistry meterRegistry) {
+    Gauge.builder("admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+            .tag("endpoint", limiter.getName()).register(meterRegistry);
+    Gauge.builder("admission.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+            .tag("endpoint", limiter.getName()).register(meterRegistry);
+    Gauge.builder("admission.queued", limiter, AdaptiveConcurrencyLimiter::getQueued)
+            .tag("endpoint", limiter.getName()).register(meterRegistry);
+    FunctionCounter.builder("admission.rejected", limiter, AdaptiveConcurrencyLimiter::getRejected)
+            .tag("endpoint", limiter.getName()).register(meterRegistry);
+
+    return limiter;
+  }
+}
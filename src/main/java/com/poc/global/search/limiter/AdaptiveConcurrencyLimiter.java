@@ -0,0 +1,240 @@
+package com.poc.global.search.limiter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limitador de concorrência adaptativo, baseado no algoritmo de gradiente.
+ *
+ * O limite de requisições simultâneas é recalculado a cada requisição concluída, comparando a latência medida com a
+ * menor latência observada (latência sem fila). Enquanto as duas forem próximas o limite cresce; quando a latência
+ * aumenta, sinal de que as requisições estão esperando por recursos, o limite diminui na mesma proporção, podendo
+ * chegar ao limite mínimo. Pela lei de Little, isso mantém a concorrência próxima de vazão x latência mínima, sem formar filas.
+ *
+ * A latência de uma requisição cresce com o tamanho do corpo (um arquivo de 15 MB não é comparável a um de 2 KB), por
+ * isso a menor latência é mantida por faixa de tamanho, e cada requisição é comparada apenas com requisições de tamanho
+ * parecido. As faixas crescem em um fator de raiz de 2, menor que a tolerância, para que a variação de tamanho dentro de
+ * uma faixa não seja confundida com fila.
+ *
+ * A menor latência de cada faixa é calculada em uma janela das últimas MIN_RTT_WINDOW a 2 * MIN_RTT_WINDOW amostras, para
+ * que uma amostra excepcionalmente rápida não fixe o limite no mínimo para sempre. A janela é longa o bastante para que
+ * uma carga pesada de curta duração não passe a ser tratada como a nova latência sem fila.
+ *
+ * Requisições acima do limite aguardam em uma fila limitada por um tempo máximo e depois são rejeitadas.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+	// Latência acima de minRtt * TOLERANCE não reduz o limite
+	private static final double TOLERANCE = 1.5;
+
+	// Peso da nova amostra no cálculo do limite
+	private static final double SMOOTHING = 0.2;
+
+	// Quantidade de amostras de uma faixa de tamanho em cada geração da janela da menor latência
+	private static final int MIN_RTT_WINDOW = 1000;
+
+	// Faixas de tamanho em potências de raiz de 2 (2 * log2 do tamanho), a faixa 0 contém as requisições sem corpo
+	private static final int SIZE_CLASSES = 128;
+
+	private final String name;
+	private final int minLimit;
+	private final int maxLimit;
+	private final int maxQueueSize;
+	private final long queueTimeoutNanos;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition available = lock.newCondition();
+
+	private double limit;
+	private int inFlight;
+	private int queued;
+	private long rejected;
+	private final MinRtt[] minRtts = new MinRtt[SIZE_CLASSES];
+
+	public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, int maxQueueSize, long queueTimeoutMillis) {
+		if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit)
+			throw new IllegalArgumentException("Invalid limits for limiter " + name);
+
+		this.name = name;
+		this.limit = initialLimit;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.maxQueueSize = maxQueueSize;
+		this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+	}
+
+	/**
+	 * Tenta obter uma permissão para processar uma requisição.
+	 * Caso o limite tenha sido atingido, aguarda na fila até o tempo máximo configurado.
+	 *
+	 * @return true se a permissão foi obtida, false se a requisição deve ser rejeitada.
+	 */
+	public boolean tryAcquire() {
+		lock.lock();
+		try {
+			if (inFlight < (int) limit) {
+				inFlight++;
+				return true;
+			}
+
+			if (queued >= maxQueueSize) {
+				rejected++;
+				return false;
+			}
+
+			queued++;
+			try {
+				long remaining = queueTimeoutNanos;
+				while (inFlight >= (int) limit) {
+					if (remaining <= 0) {
+						rejected++;
+						return false;
+					}
+					remaining = available.awaitNanos(remaining);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				rejected++;
+				return false;
+			} finally {
+				queued--;
+			}
+
+			inFlight++;
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Libera a permissão obtida em tryAcquire e recalcula o limite com a latência de uma requisição sem corpo.
+	 *
+	 * @param rttNanos A latência da requisição em nanossegundos, ou 0 para não alterar o limite.
+	 */
+	public void release(long rttNanos) {
+		release(rttNanos, 0);
+	}
+
+	/**
+	 * Libera a permissão obtida em tryAcquire e recalcula o limite com a latência da requisição.
+	 *
+	 * @param rttNanos A latência da requisição em nanossegundos, ou 0 para não alterar o limite.
+	 * @param requestSize O tamanho do corpo da requisição em bytes, ou um valor negativo se for desconhecido.
+	 */
+	public void release(long rttNanos, long requestSize) {
+		lock.lock();
+		try {
+			// O limite é atualizado antes de liberar a permissão, para considerar esta requisição como em andamento
+			updateLimit(rttNanos, requestSize);
+			inFlight--;
+
+			// Libera uma requisição da fila para cada permissão disponível
+			for (int i = inFlight; i < (int) limit; i++)
+				available.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void updateLimit(long rttNanos, long requestSize) {
+		if (rttNanos <= 0)
+			return;
+
+		int sizeClass = sizeClass(requestSize);
+		if (minRtts[sizeClass] == null)
+			minRtts[sizeClass] = new MinRtt();
+
+		long minRttNanos = minRtts[sizeClass].update(rttNanos);
+
+		double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * minRttNanos / rttNanos));
+		double newLimit;
+
+		if (gradient < 1.0) {
+			newLimit = limit * gradient;
+		} else {
+			// Não aumenta o limite se ele não está sendo utilizado
+			if (inFlight < limit / 2)
+				return;
+			newLimit = limit + Math.sqrt(limit);
+		}
+
+		newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+		limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+	}
+
+	private static int sizeClass(long requestSize) {
+		if (requestSize <= 1)
+			return 0;
+
+		return (int) Math.min(SIZE_CLASSES - 1, 2 * Math.log(requestSize) / Math.log(2));
+	}
+
+	/**
+	 * Menor latência de uma faixa de tamanho, calculada na geração atual e na anterior da janela.
+	 */
+	private static class MinRtt {
+		private long current;
+		private long previous;
+		private int samples;
+
+		/**
+		 * Registra uma amostra e devolve a menor latência da janela, incluindo a amostra.
+		 */
+		long update(long rttNanos) {
+			if (current == 0 || rttNanos < current)
+				current = rttNanos;
+
+			long minRtt = previous == 0 ? current : Math.min(current, previous);
+
+			if (++samples >= MIN_RTT_WINDOW) {
+				previous = current;
+				current = 0;
+				samples = 0;
+			}
+
+			return minRtt;
+		}
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getLimit() {
+		lock.lock();
+		try {
+			return (int) limit;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getInFlight() {
+		lock.lock();
+		try {
+			return inFlight;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getQueued() {
+		lock.lock();
+		try {
+			return queued;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public long getRejected() {
+		lock.lock();
+		try {
+			return rejected;
+		} finally {
+			lock.unlock();
+		}
+	}
+}
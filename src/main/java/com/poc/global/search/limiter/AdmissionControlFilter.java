@@ -0,0 +1,53 @@
+package com.poc.global.search.limiter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Controle de admissão de um grupo de endpoints (bulkhead).
+ * Cada grupo possui o seu próprio limitador, de forma que uploads grandes não ocupam a capacidade reservada para a busca.
+ * Requisições rejeitadas recebem 429 com o header Retry-After.
+ *
+ * É um filtro de servlet, e não um HandlerInterceptor, para rejeitar a requisição antes do DispatcherServlet ler o
+ * corpo multipart: um upload de 15 MB rejeitado não chega a ser lido nem gravado em disco.
+ */
+@Slf4j
+@AllArgsConstructor
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+	private AdaptiveConcurrencyLimiter limiter;
+	private long retryAfterSeconds;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+		if (!limiter.tryAcquire()) {
+			log.debug("Request rejected by the " + limiter.getName() + " limiter: " + request.getRequestURI());
+			response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+			response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+			return;
+		}
+
+		long startTime = System.nanoTime();
+		boolean failed = true;
+
+		try {
+			filterChain.doFilter(request, response);
+			failed = false;
+		} finally {
+			// Apenas respostas 2xx alteram o limite: erros e rejeições rápidas, como um 400 de tenant inválido, não
+			// representam a latência de uma requisição processada
+			int status = response.getStatus();
+			long rttNanos = failed || status < 200 || status >= 300 ? 0 : System.nanoTime() - startTime;
+			limiter.release(rttNanos, request.getContentLengthLong());
+		}
+	}
+}
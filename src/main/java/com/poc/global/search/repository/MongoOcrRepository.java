@@ -0,0 +1,85 @@
+package com.poc.global.search.repository;
+
+import com.poc.global.search.entity.Tokens;
+import lombok.AllArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.poc.global.search.utils.Constants.DEFAULT_TENANT;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Repository
+@AllArgsConstructor
+public class MongoOcrRepository implements OcrRepository {
+
+	// Coleção usada antes do particionamento por tenant, mantida para o tenant padrão
+	private static final String COLLECTION = "tokens";
+	private static final String TENANT_COLLECTION_PREFIX = COLLECTION + "_";
+
+	private MongoTemplate mongoTemplate;
+
+	@Override
+	public List<Tokens> findAllById(String tenantId, Collection<String> tokens) {
+		return mongoTemplate.find(query(where("_id").in(tokens)), Tokens.class, collectionName(tenantId));
+	}
+
+	/**
+	 * Grava os tokens em uma única operação bulk, substituindo os documentos existentes.
+	 *
+	 * @param tenantId O ID do tenant.
+	 * @param tokens Os tokens a serem gravados.
+	 */
+	@Override
+	public void saveAll(String tenantId, Collection<Tokens> tokens) {
+		if (tokens.isEmpty())
+			return;
+
+		BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Tokens.class, collectionName(tenantId));
+
+		for (Tokens token : tokens)
+			bulkOperations.replaceOne(query(where("_id").is(token.getToken())), token, FindAndReplaceOptions.options().upsert());
+
+		bulkOperations.execute();
+	}
+
+	@Override
+	public void deleteAllById(String tenantId, Collection<String> tokens) {
+		if (tokens.isEmpty())
+			return;
+
+		mongoTemplate.remove(query(where("_id").in(tokens)), Tokens.class, collectionName(tenantId));
+	}
+
+	@Override
+	public Stream<Tokens> streamAll(String tenantId) {
+		return mongoTemplate.stream(new Query(), Tokens.class, collectionName(tenantId));
+	}
+
+	@Override
+	public Set<String> findAllTenants() {
+		return mongoTemplate.getCollectionNames()
+				.stream()
+				.filter(name -> name.equals(COLLECTION) || name.startsWith(TENANT_COLLECTION_PREFIX))
+				.map(name -> name.equals(COLLECTION) ? DEFAULT_TENANT : name.substring(TENANT_COLLECTION_PREFIX.length()))
+				.collect(Collectors.toSet());
+	}
+
+	/**
+	 * Retorna o nome da coleção de tokens de um tenant.
+	 * O tenant padrão utiliza a coleção original, para não ser necessário migrar os dados já indexados.
+	 *
+	 * @param tenantId O ID do tenant, já validado.
+	 * @return O nome da coleção.
+	 */
+	private String collectionName(String tenantId) {
+		return DEFAULT_TENANT.equals(tenantId) ? COLLECTION : TENANT_COLLECTION_PREFIX + tenantId;
+	}
+}
@@ -1,12 +1,25 @@
 package com.poc.global.search.repository;
 
 import com.poc.global.search.entity.Tokens;
-import org.springframework.data.mongodb.repository.MongoRepository;
-import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
-@Repository
-public interface OcrRepository extends MongoRepository<Tokens, String> {
-	Optional<Tokens> findByToken(String token);
+/**
+ * Armazenamento dos tokens particionado por tenant.
+ * Cada tenant possui a sua própria coleção, de forma que a busca de um tenant nunca lê os tokens de outro. O
+ * particionamento é de desempenho e não de acesso: o tenant é o informado na requisição (ver TenantUtils).
+ */
+public interface OcrRepository {
+	List<Tokens> findAllById(String tenantId, Collection<String> tokens);
+
+	void saveAll(String tenantId, Collection<Tokens> tokens);
+
+	void deleteAllById(String tenantId, Collection<String> tokens);
+
+	Stream<Tokens> streamAll(String tenantId);
+
+	Set<String> findAllTenants();
 }
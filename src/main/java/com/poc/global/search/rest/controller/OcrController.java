@@ -1,7 +1,10 @@
 package com.poc.global.search.rest.controller;
 
+import com.poc.global.search.capture.RequestCapture;
 import com.poc.global.search.rest.vo.OcrVO;
 import com.poc.global.search.service.ocr.OcrService;
+import com.poc.global.search.service.reindex.ReindexService;
+import com.poc.global.search.utils.TenantUtils;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,13 +25,22 @@ public class OcrController {
 	@Autowired
 	private OcrService ocrService;
 
+	@Autowired
+	private ReindexService reindexService;
+
+	@Autowired
+	private TenantUtils tenantUtils;
+
+	@Autowired
+	private RequestCapture requestCapture;
+
 	/**
 	 * Processa um objeto OcrVO e extrai os tokens.
 	 * Caso o arquivo seja maior que o tamanho máximo permitido (5 MB), divide o arquivo em partes menores e processa cada parte.
 	 *
 	 * Essa chamada é feita para clientes Cloud.
 	 *
-	 * @param ocrVO O objeto que contém o arquivo e o ID do arquivo.
+	 * @param ocrVO O objeto que contém o arquivo, o ID do arquivo e o ID do tenant.
 	 */
 	@PostMapping("/process")
 	@ResponseStatus(code = HttpStatus.OK)
@@ -37,11 +49,15 @@ public class OcrController {
 			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "File is empty");
 		}
 
+		ocrVO.setTenantId(tenantUtils.resolve(ocrVO.getTenantId()));
+
 		try {
 			ocrService.process(ocrVO);
 		} catch (IOException e) {
 			throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Error processing file", e);
 		}
+
+		requestCapture.captureIngest(ocrVO);
 	}
 
 	/**
@@ -52,10 +68,12 @@ public class OcrController {
 	 *
 	 * @param file O arquivo a ser processado.
 	 * @param fileId O ID do arquivo.
+	 * @param tenantId O ID do tenant. Caso não seja informado, utiliza o tenant padrão.
 	 */
 	@PostMapping("/upload")
 	@ResponseStatus(code = HttpStatus.OK)
-	public void uploadTextFile(@RequestParam("file") MultipartFile file, @RequestParam("fileId") int fileId) {
+	public void uploadTextFile(@RequestParam("file") MultipartFile file, @RequestParam("fileId") int fileId,
+							   @RequestParam(value = "tenantId", required = false) String tenantId) {
 		if (file.isEmpty()) {
 			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "File is empty");
 		}
@@ -64,10 +82,27 @@ public class OcrController {
 			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "File type is not supported");
 		}
 
+		String resolvedTenantId = tenantUtils.resolve(tenantId);
+
 		try {
-			ocrService.process(file, fileId);
+			ocrService.process(file, fileId, resolvedTenantId);
 		} catch (IOException e) {
 			throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Error processing file", e);
 		}
+
+		// Após o processamento, pois a captura move o arquivo recebido
+		requestCapture.captureUpload(file, fileId, resolvedTenantId);
+	}
+
+	/**
+	 * Reaplica a normalização dos tokens (remoção de acentos e redução de plurais) em toda a base já indexada.
+	 * Deve ser executada após ligar uma das opções de global-search.tokens.
+	 * A normalização não pode ser desfeita: para desligar uma opção é necessário reprocessar todos os arquivos em uma base vazia.
+	 * Todos os tenants são reindexados.
+	 */
+	@PostMapping("/reindex")
+	@ResponseStatus(code = HttpStatus.OK)
+	public void reindex() {
+		reindexService.reindex();
 	}
 }
@@ -1,8 +1,10 @@
 package com.poc.global.search.rest.controller;
 
+import com.poc.global.search.capture.RequestCapture;
 import com.poc.global.search.rest.response.SearchResponse;
 import com.poc.global.search.rest.vo.SearchVO;
 import com.poc.global.search.service.search.SearchService;
+import com.poc.global.search.utils.TenantUtils;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,9 +20,20 @@ public class SearchController {
 	@Autowired
 	private SearchService searchService;
 
+	@Autowired
+	private TenantUtils tenantUtils;
+
+	@Autowired
+	private RequestCapture requestCapture;
+
 	@PostMapping
 	@ResponseStatus(code = HttpStatus.OK)
 	public SearchResponse searchText(@Valid @RequestBody SearchVO searchVO) {
-		return searchService.find(searchVO);
+		searchVO.setTenantId(tenantUtils.resolve(searchVO.getTenantId()));
+
+		SearchResponse searchResponse = searchService.find(searchVO);
+		requestCapture.captureSearch(searchVO);
+
+		return searchResponse;
 	}
 }
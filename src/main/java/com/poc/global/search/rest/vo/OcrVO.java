@@ -8,4 +8,5 @@ import lombok.Data;
 public class OcrVO {
 	private String file;
 	private int fileId;
+	private String tenantId;
 }
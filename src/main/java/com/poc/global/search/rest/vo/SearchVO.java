@@ -8,4 +8,5 @@ import lombok.Data;
 public class SearchVO {
 	private String termToSearch;
 	private String searchType;
+	private String tenantId;
 }
@@ -33,33 +33,35 @@ public class OcrImpl implements OcrService {
 	 *
 	 * @param file O arquivo a ser processado.
 	 * @param fileId O ID do arquivo.
+	 * @param tenantId O ID do tenant.
 	 * @throws IOException Se ocorrer um erro ao ler o arquivo.
 	 */
 	@Override
-	public void process(MultipartFile file, int fileId) throws IOException {
+	public void process(MultipartFile file, int fileId, String tenantId) throws IOException {
 		long size = file.getSize();
 
 		if (size <= MAX_SIZE)
-			processWithInputStream(file.getInputStream(), fileId);
+			processWithInputStream(file.getInputStream(), fileId, tenantId);
 		else
-			splitProcess(file.getInputStream(), fileId);
+			splitProcess(file.getInputStream(), fileId, tenantId);
 	}
 
 	/**
 	 * Processa um objeto OcrVO e extrai os tokens.
 	 * Caso o arquivo seja maior que o tamanho máximo permitido, divide o arquivo em partes menores e processa cada parte.
 	 *
-	 * @param ocrVO O objeto que contém o arquivo e o ID do arquivo.
+	 * @param ocrVO O objeto que contém o arquivo, o ID do arquivo e o ID do tenant.
 	 */
 	public void process(OcrVO ocrVO) throws IOException {
 		String file = ocrVO.getFile();
 		int fileId = ocrVO.getFileId();
+		String tenantId = ocrVO.getTenantId();
 		byte[] bytes = file.getBytes(StandardCharsets.UTF_8);
 
 		if (bytes.length > MAX_SIZE)
-			splitProcess(new ByteArrayInputStream(bytes), fileId);
+			splitProcess(new ByteArrayInputStream(bytes), fileId, tenantId);
 		else
-			process(file, fileId);
+			process(file, fileId, tenantId);
 	}
 
 	/**
@@ -67,14 +69,15 @@ public class OcrImpl implements OcrService {
 	 *
 	 * @param file A string a ser processada.
 	 * @param fileId O ID do arquivo.
+	 * @param tenantId O ID do tenant.
 	 */
-	private void process(String file, int fileId) {
+	private void process(String file, int fileId, String tenantId) {
 
 		long startTime = System.currentTimeMillis();
 
 		List<String> tokens = tokenUtils.getTokens(file);
 
-		Map<String, Tokens> tokenEntities = ocrRepository.findAllById(tokens)
+		Map<String, Tokens> tokenEntities = ocrRepository.findAllById(tenantId, new HashSet<>(tokens))
 				.stream()
 				.collect(Collectors.toMap(Tokens::getToken, Function.identity()));
 
@@ -89,7 +92,7 @@ public class OcrImpl implements OcrService {
 			saveOrUpdateToken(token, lookAheadString, fileId, tokenEntities);
 		}
 
-		ocrRepository.saveAll(tokenEntities.values());
+		ocrRepository.saveAll(tenantId, tokenEntities.values());
 
 		long endTime = System.currentTimeMillis();
 		long processingTime = endTime - startTime;
@@ -102,15 +105,16 @@ public class OcrImpl implements OcrService {
 	 *
 	 * @param in O InputStream a ser processado.
 	 * @param fileId O ID do arquivo.
+	 * @param tenantId O ID do tenant.
 	 * @throws IOException Se ocorrer um erro ao ler o InputStream.
 	 */
-	private void splitProcess(InputStream in, int fileId) throws IOException {
+	private void splitProcess(InputStream in, int fileId, String tenantId) throws IOException {
 		final byte[] buffer = new byte[MAX_SIZE];
 		int dataRead;
 
 		try (BufferedInputStream bis = new BufferedInputStream(in)) {
 			while ((dataRead = bis.read(buffer)) != -1) {
-				processWithInputStream(new ByteArrayInputStream(buffer, 0, dataRead), fileId);
+				processWithInputStream(new ByteArrayInputStream(buffer, 0, dataRead), fileId, tenantId);
 			}
 		}
 	}
@@ -120,9 +124,10 @@ public class OcrImpl implements OcrService {
 	 *
 	 * @param file O InputStream a ser processado.
 	 * @param fileId O ID do arquivo.
+	 * @param tenantId O ID do tenant.
 	 * @throws IOException Se ocorrer um erro ao ler o InputStream.
 	 */
-	private void processWithInputStream(InputStream file, int fileId) throws IOException {
+	private void processWithInputStream(InputStream file, int fileId, String tenantId) throws IOException {
 		StringBuilder stringBuilder = new StringBuilder();
 		String line;
 
@@ -132,7 +137,7 @@ public class OcrImpl implements OcrService {
 			}
 		}
 
-		process(stringBuilder.toString(), fileId);
+		process(stringBuilder.toString(), fileId, tenantId);
 	}
 
 	/**
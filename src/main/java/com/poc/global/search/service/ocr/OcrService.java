@@ -9,5 +9,5 @@ public interface OcrService {
 
 	void process(OcrVO ocrVO) throws IOException;
 
-	void process(MultipartFile file, int fileId) throws IOException;
+	void process(MultipartFile file, int fileId, String tenantId) throws IOException;
 }
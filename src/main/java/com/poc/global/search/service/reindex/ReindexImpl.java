@@ -0,0 +1,153 @@
+package com.poc.global.search.service.reindex;
+
+import com.poc.global.search.entity.Tokens;
+import com.poc.global.search.repository.OcrRepository;
+import com.poc.global.search.utils.TokenNormalizer;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+public class ReindexImpl implements ReindexService {
+
+	private OcrRepository ocrRepository;
+	private TokenNormalizer tokenNormalizer;
+
+	// Quantidade de tokens normalizados mantidos em memória antes de gravar no banco de dados
+	private static final int BATCH_SIZE = 1000;
+
+	/**
+	 * Reaplica a normalização do TokenNormalizer em todos os tokens já indexados.
+	 * Tokens que passam a ter a mesma forma normalizada são unidos em um único documento, e os documentos antigos são removidos.
+	 * As strings de look-ahead também são normalizadas, para que a busca exata continue funcionando.
+	 *
+	 * A operação pode ser executada novamente sem efeitos colaterais: a normalização é estável (normalizar um token já
+	 * normalizado não o altera), por isso tokens já normalizados são ignorados, inclusive os gravados pela própria
+	 * execução e lidos novamente pelo cursor.
+	 */
+	@Override
+	public void reindex() {
+		for (String tenantId : ocrRepository.findAllTenants())
+			reindex(tenantId);
+	}
+
+	/**
+	 * Reaplica a normalização nos tokens de um tenant.
+	 *
+	 * @param tenantId O ID do tenant.
+	 */
+	private void reindex(String tenantId) {
+		long startTime = System.currentTimeMillis();
+
+		Map<String, Tokens> pending = new HashMap<>();
+		Set<String> obsolete = new HashSet<>();
+		long read = 0;
+		long rewritten = 0;
+
+		try (Stream<Tokens> stream = ocrRepository.streamAll(tenantId)) {
+			Iterator<Tokens> iterator = stream.iterator();
+
+			while (iterator.hasNext()) {
+				Tokens tokenEntity = iterator.next();
+				read++;
+
+				String normalizedToken = tokenNormalizer.normalize(tokenEntity.getToken());
+				HashMap<Integer, List<String>> normalizedFilesIds = normalizeFilesIds(tokenEntity.getFilesIds());
+
+				// Token já normalizado, não é necessário reescrever o documento
+				if (normalizedToken.equals(tokenEntity.getToken()) && normalizedFilesIds.equals(tokenEntity.getFilesIds()))
+					continue;
+
+				rewritten++;
+				merge(pending, normalizedToken, normalizedFilesIds);
+
+				if (!normalizedToken.equals(tokenEntity.getToken()))
+					obsolete.add(tokenEntity.getToken());
+
+				if (pending.size() >= BATCH_SIZE)
+					flush(tenantId, pending, obsolete);
+			}
+		}
+
+		flush(tenantId, pending, obsolete);
+
+		long endTime = System.currentTimeMillis();
+		long processingTime = endTime - startTime;
+
+		log.info("Reindex of tenant " + tenantId + " finished: " + read + " tokens read, " + rewritten + " tokens rewritten in " + processingTime + "ms");
+	}
+
+	/**
+	 * Une os tokens pendentes com os documentos já existentes no banco de dados, grava o resultado e remove os documentos obsoletos.
+	 *
+	 * @param tenantId O ID do tenant.
+	 * @param pending O mapa de tokens normalizados pendentes de gravação.
+	 * @param obsolete Os tokens antigos que devem ser removidos.
+	 */
+	private void flush(String tenantId, Map<String, Tokens> pending, Set<String> obsolete) {
+		if (pending.isEmpty())
+			return;
+
+		// Une com os documentos já gravados com o token normalizado
+		for (Tokens existing : ocrRepository.findAllById(tenantId, pending.keySet()))
+			merge(pending, existing.getToken(), normalizeFilesIds(existing.getFilesIds()));
+
+		// Nunca remove um documento que acabou de ser gravado
+		obsolete.removeAll(pending.keySet());
+
+		ocrRepository.saveAll(tenantId, pending.values());
+		ocrRepository.deleteAllById(tenantId, obsolete);
+
+		pending.clear();
+		obsolete.clear();
+	}
+
+	/**
+	 * Une os IDs dos arquivos e as strings de look-ahead de um token no mapa de tokens pendentes.
+	 *
+	 * @param pending O mapa de tokens normalizados pendentes de gravação.
+	 * @param token O token normalizado.
+	 * @param filesIds O mapa de IDs dos arquivos já normalizado.
+	 */
+	private void merge(Map<String, Tokens> pending, String token, HashMap<Integer, List<String>> filesIds) {
+		Tokens tokenEntity = pending.computeIfAbsent(token, key -> Tokens.builder().token(key).filesIds(new HashMap<>()).build());
+
+		filesIds.forEach((fileId, lookAheadStrings) -> {
+			List<String> merged = tokenEntity.getFilesIds().computeIfAbsent(fileId, key -> new ArrayList<>());
+			for (String lookAheadString : lookAheadStrings) {
+				if (!merged.contains(lookAheadString))
+					merged.add(lookAheadString);
+			}
+		});
+	}
+
+	/**
+	 * Normaliza as strings de look-ahead de cada arquivo, removendo as duplicadas.
+	 *
+	 * @param filesIds O mapa de IDs dos arquivos.
+	 * @return Um novo mapa com as strings de look-ahead normalizadas.
+	 */
+	private HashMap<Integer, List<String>> normalizeFilesIds(HashMap<Integer, List<String>> filesIds) {
+		HashMap<Integer, List<String>> normalizedFilesIds = new HashMap<>();
+
+		if (filesIds == null)
+			return normalizedFilesIds;
+
+		filesIds.forEach((fileId, lookAheadStrings) -> {
+			List<String> normalized = new ArrayList<>();
+			for (String lookAheadString : lookAheadStrings) {
+				String normalizedLookAhead = tokenNormalizer.normalize(lookAheadString);
+				if (!normalized.contains(normalizedLookAhead))
+					normalized.add(normalizedLookAhead);
+			}
+			normalizedFilesIds.put(fileId, normalized);
+		});
+
+		return normalizedFilesIds;
+	}
+}
@@ -0,0 +1,6 @@
+package com.poc.global.search.service.reindex;
+
+public interface ReindexService {
+
+	void reindex();
+}
@@ -40,8 +40,8 @@ public class SearchImpl implements SearchService {
 		String searchType = searchVO.getSearchType();
 
 		switch (SearchTypes.valueOf(searchType.toUpperCase())) {
-			case ANY -> filesIdsIntersection = anyOrderSearch(tokens);
-			case EXACT -> filesIdsIntersection = exactSearch(tokens);
+			case ANY -> filesIdsIntersection = anyOrderSearch(tokens, searchVO.getTenantId());
+			case EXACT -> filesIdsIntersection = exactSearch(tokens, searchVO.getTenantId());
 			default -> {
 				log.error("Tipo de busca não suportado: " + searchType);
 				return SearchResponse.builder().searchResult(new int[0]).build();
@@ -62,11 +62,15 @@ public class SearchImpl implements SearchService {
 	 * Retorna os arquivos que contêm o termo buscado na exata ordem informados.
 	 *
 	 * @param tokens A lista de tokens a serem buscados.
+	 * @param tenantId O ID do tenant.
 	 * @return Um array de inteiros que representa os IDs dos arquivos que contêm o termo buscado.
 	 */
-	private int[] exactSearch(List<String> tokens) {
+	private int[] exactSearch(List<String> tokens, String tenantId) {
+		// Termo formado apenas por stop words ou números, não há o que buscar
+		if (tokens.isEmpty())
+			return new int[0];
 
-		Map<String, Tokens> tokensMap = ocrRepository.findAllById(tokens)
+		Map<String, Tokens> tokensMap = ocrRepository.findAllById(tenantId, new HashSet<>(tokens))
 				.stream()
 				.collect(Collectors.toMap(Tokens::getToken, Function.identity()));
 
@@ -107,10 +111,11 @@ public class SearchImpl implements SearchService {
 	 * Retorna os arquivos que contêm o termo buscado em qualquer ordem.
 	 *
 	 * @param tokens A lista de tokens a serem buscados.
+	 * @param tenantId O ID do tenant.
 	 * @return Um array de inteiros que representa os IDs dos arquivos que contêm o termo buscado.
 	 */
-	private int[] anyOrderSearch(List<String> tokens) {
-		Map<String, Tokens> tokensMap = ocrRepository.findAllById(tokens)
+	private int[] anyOrderSearch(List<String> tokens, String tenantId) {
+		Map<String, Tokens> tokensMap = ocrRepository.findAllById(tenantId, new HashSet<>(tokens))
 				.stream()
 				.collect(Collectors.toMap(Tokens::getToken, Function.identity()));
 
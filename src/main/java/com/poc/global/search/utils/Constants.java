@@ -1,12 +1,19 @@
 package com.poc.global.search.utils;
 
 import java.util.Set;
+import java.util.regex.Pattern;
 
 public class Constants {
 
 	// Número de palavras a serem consideradas no cálculo do score.
 	public static int LOOK_AHEAD = 1;
 
+	// Tenant utilizado quando o cliente não informa o tenantId.
+	public static final String DEFAULT_TENANT = "default";
+
+	// O tenantId compõe o nome da coleção no MongoDB, por isso apenas letras, números, '_' e '-' são permitidos.
+	public static final Pattern TENANT_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
 	/**
 	 * Stop words em português, inglês e espanhol.
 	 * Stop words são palavras que são filtradas antes ou depois do processamento de texto.
@@ -0,0 +1,49 @@
+package com.poc.global.search.utils;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Set;
+
+import static com.poc.global.search.utils.Constants.DEFAULT_TENANT;
+import static com.poc.global.search.utils.Constants.TENANT_ID_PATTERN;
+
+@Component
+public class TenantUtils {
+
+	/**
+	 * Tenants autorizados a indexar e buscar.
+	 * Cada tenant possui a sua própria coleção no MongoDB, por isso apenas tenants cadastrados são aceitos; caso contrário
+	 * qualquer cliente poderia criar coleções sem limite. O tenant padrão é sempre aceito.
+	 *
+	 * A lista não isola os tenants: o tenantId vem do corpo ou dos parâmetros da requisição, então qualquer cliente que
+	 * acesse o serviço pode ler ou gravar o índice de outro tenant cadastrado informando o seu ID. O particionamento é
+	 * apenas de desempenho; o isolamento de acesso deve ser garantido por quem chama o serviço.
+	 */
+	@Value("${global-search.tenants.allowed:}")
+	private Set<String> allowedTenants;
+
+	/**
+	 * Valida o tenantId informado pelo cliente.
+	 * Caso não seja informado, utiliza o tenant padrão.
+	 *
+	 * @param tenantId O ID do tenant informado pelo cliente.
+	 * @return O ID do tenant a ser utilizado.
+	 * @throws ResponseStatusException Se o tenantId possuir caracteres não permitidos ou não estiver cadastrado.
+	 */
+	public String resolve(String tenantId) {
+		if (StringUtils.isBlank(tenantId))
+			return DEFAULT_TENANT;
+
+		if (!TENANT_ID_PATTERN.matcher(tenantId).matches())
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid tenantId");
+
+		if (!DEFAULT_TENANT.equals(tenantId) && !allowedTenants.contains(tenantId))
+			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Tenant not allowed");
+
+		return tenantId;
+	}
+}
@@ -0,0 +1,202 @@
+package com.poc.global.search.utils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.Set;
+
+/**
+ * Normaliza os tokens antes de serem indexados ou buscados.
+ * A mesma normalização é aplicada na indexação e na busca, garantindo que "contratação", "contratacao" e
+ * "contratações" sejam gravados e buscados como o mesmo token.
+ *
+ * Ao ligar uma das opções é necessário reindexar a base (POST /ocr/reindex). A normalização não pode ser desfeita, por
+ * isso desligar uma opção exige reprocessar todos os arquivos em uma base vazia.
+ */
+@Component
+public class TokenNormalizer {
+
+	// Tamanho mínimo do radical que deve restar após a remoção de um sufixo
+	private static final int MIN_STEM_LENGTH = 3;
+
+	/**
+	 * Plurais nasais do português (ações -> ação, leões -> leão, pães -> pão).
+	 * Também são aplicados sem acento, para que "acoes" digitado encontre "ações". Aceitam radicais curtos, pois palavras
+	 * como "ações" e "leões" possuem apenas duas letras antes do sufixo.
+	 */
+	private static final String[][] NASAL_RULES = {
+			{"ões", "ão"}, {"ães", "ão"}, // Sem a remoção de acentos
+			{"oes", "ao"}, {"aes", "ao"}, // Após a remoção de acentos ou digitado sem acento
+	};
+
+	// Palavras em inglês e espanhol terminadas em "-oes" que não são plurais nasais (heroes -> heroe, e não herao)
+	private static final Set<String> NON_NASAL_WORDS = Set.of(
+			"heroes", "potatoes", "tomatoes", "echoes", "vetoes", "torpedoes", "volcanoes", "mosquitoes", "dominoes",
+			"shoes", "canoes", "oboes", "tiptoes", "does", "goes", "toes", "foes", "hoes");
+
+	/**
+	 * Regras de redução de plural para português, espanhol e inglês.
+	 * Cada regra é formada por sufixo, substituto e tamanho mínimo do radical, e a primeira regra que casar é aplicada.
+	 */
+	private static final Object[][] SUFFIX_RULES = {
+			{"coes", "cao", MIN_STEM_LENGTH}, // contratacoes (digitado sem acento) -> contratacao
+			{"ies", "y", 4},                  // companies -> company, preservando "series"
+			{"ais", "al", MIN_STEM_LENGTH},   // animais -> animal
+			{"eis", "el", MIN_STEM_LENGTH},   // papeis -> papel
+	};
+
+	// Consoantes após as quais "-es" é plural (flores, papeles, meses, países, contrataciones) e "-e" final é removido
+	private static final String ES_CONSONANTS = "rlzsn";
+
+	@Value("${global-search.tokens.accent-folding:true}")
+	private boolean accentFolding;
+
+	@Value("${global-search.tokens.stemming:true}")
+	private boolean stemming;
+
+	/**
+	 * Normaliza um token já em letras minúsculas.
+	 * Tokens em outros alfabetos (cirílico, grego, etc.) são mantidos; apenas as letras latinas perdem os acentos.
+	 *
+	 * @param token O token a ser normalizado.
+	 * @return O token normalizado.
+	 */
+	public String normalize(String token) {
+		if (token.isEmpty())
+			return token;
+
+		String normalized = accentFolding ? fold(token) : token;
+
+		return stemming ? stem(normalized) : normalized;
+	}
+
+	/**
+	 * Remove os acentos e diacríticos das letras latinas de um token.
+	 * Os diacríticos de outros alfabetos são mantidos, pois neles costumam formar letras distintas (й não é и).
+	 * Tokens que contém apenas caracteres ASCII são devolvidos sem alteração.
+	 *
+	 * @param token O token a ser processado.
+	 * @return O token sem acentos.
+	 */
+	private String fold(String token) {
+		if (isAscii(token))
+			return token;
+
+		String decomposed = Normalizer.normalize(token, Normalizer.Form.NFD);
+
+		StringBuilder stringBuilder = new StringBuilder(decomposed.length());
+		boolean latinBase = false;
+		for (int i = 0; i < decomposed.length(); i++) {
+			char c = decomposed.charAt(i);
+
+			if (isMark(c)) {
+				if (!latinBase)
+					stringBuilder.append(c);
+				continue;
+			}
+
+			latinBase = Character.UnicodeScript.of(c) == Character.UnicodeScript.LATIN;
+
+			// Letras que não possuem decomposição canônica
+			switch (c) {
+				case 'ß' -> stringBuilder.append("ss");
+				case 'æ' -> stringBuilder.append("ae");
+				case 'œ' -> stringBuilder.append("oe");
+				case 'ø' -> stringBuilder.append('o');
+				case 'ł' -> stringBuilder.append('l');
+				case 'đ' -> stringBuilder.append('d');
+				default -> stringBuilder.append(c);
+			}
+		}
+
+		// Recompõe as letras de outros alfabetos que mantiveram os diacríticos
+		return Normalizer.normalize(stringBuilder, Normalizer.Form.NFC);
+	}
+
+	private boolean isMark(char c) {
+		int type = Character.getType(c);
+
+		return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK || type == Character.ENCLOSING_MARK;
+	}
+
+	/**
+	 * Stemmer leve que reduz plurais para o singular.
+	 * Não tenta remover sufixos derivacionais, apenas as flexões mais comuns, evitando juntar palavras de sentidos diferentes.
+	 *
+	 * As regras são reaplicadas até o token não mudar mais. Assim o resultado é estável: normalizar um token já
+	 * normalizado (como faz o reindex) não o altera. Sem isso, "responses" -> "respons" perderia o "s" em uma segunda
+	 * passada e deixaria de ser encontrado.
+	 *
+	 * @param token O token, com ou sem acentos conforme a configuração.
+	 * @return O radical do token.
+	 */
+	private String stem(String token) {
+		String stemmed = stemOnce(token);
+
+		// Todas as regras encurtam o token, por isso o laço sempre termina
+		while (!stemmed.equals(token)) {
+			token = stemmed;
+			stemmed = stemOnce(token);
+		}
+
+		return stemmed;
+	}
+
+	/**
+	 * Aplica a primeira regra de redução de plural que casar com o token.
+	 *
+	 * O "-e" final após r, l, z, s ou n também é removido, para que o singular encontre o plural reduzido pela regra
+	 * do "-es" (padre e padres -> padr, store e stores -> stor).
+	 */
+	private String stemOnce(String token) {
+		if (!NON_NASAL_WORDS.contains(token)) {
+			for (String[] rule : NASAL_RULES) {
+				if (token.endsWith(rule[0]) && token.length() > rule[0].length())
+					return replaceSuffix(token, rule[0], rule[1]);
+			}
+		}
+
+		for (Object[] rule : SUFFIX_RULES) {
+			String suffix = (String) rule[0];
+			if (token.endsWith(suffix) && token.length() - suffix.length() >= (int) rule[2])
+				return replaceSuffix(token, suffix, (String) rule[1]);
+		}
+
+		if (endsWithAfterConsonant(token, "es"))
+			return token.substring(0, token.length() - 2);
+
+		if (endsWithAfterConsonant(token, "e"))
+			return token.substring(0, token.length() - 1);
+
+		// Plural simples (documentos -> documento, files -> file), preservando palavras como "class", "status" e "analisis"
+		if (token.endsWith("s") && !token.endsWith("ss") && !token.endsWith("us") && !token.endsWith("is")
+				&& token.length() - 1 >= MIN_STEM_LENGTH)
+			return token.substring(0, token.length() - 1);
+
+		return token;
+	}
+
+	/**
+	 * Verifica se o token termina com o sufixo precedido por uma das consoantes de ES_CONSONANTS, restando um radical
+	 * com pelo menos MIN_STEM_LENGTH letras.
+	 */
+	private boolean endsWithAfterConsonant(String token, String suffix) {
+		int stemLength = token.length() - suffix.length();
+
+		return token.endsWith(suffix) && stemLength >= MIN_STEM_LENGTH && ES_CONSONANTS.indexOf(token.charAt(stemLength - 1)) >= 0;
+	}
+
+	private String replaceSuffix(String token, String suffix, String replacement) {
+		return token.substring(0, token.length() - suffix.length()) + replacement;
+	}
+
+	private boolean isAscii(String token) {
+		for (int i = 0; i < token.length(); i++) {
+			if (token.charAt(i) > 127)
+				return false;
+		}
+
+		return true;
+	}
+}
@@ -4,10 +4,9 @@ import opennlp.tools.tokenize.SimpleTokenizer;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.Charset;
-import java.nio.charset.CharsetEncoder;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.poc.global.search.utils.Constants.STOP_WORDS;
@@ -15,7 +14,15 @@ import static com.poc.global.search.utils.Constants.STOP_WORDS;
 @Component
 public class TokenUtils {
 
-	private static final CharsetEncoder ENCODER = Charset.forName("ISO_8859_1").newEncoder();
+	private final TokenNormalizer tokenNormalizer;
+
+	// STOP_WORDS na mesma forma dos tokens, para que "estados", "estado" e "nao" sejam removidos como "estado" e "não"
+	private final Set<String> normalizedStopWords;
+
+	public TokenUtils(TokenNormalizer tokenNormalizer) {
+		this.tokenNormalizer = tokenNormalizer;
+		this.normalizedStopWords = STOP_WORDS.stream().map(tokenNormalizer::normalize).collect(Collectors.toUnmodifiableSet());
+	}
 
 	/**
 	 * Extrai tokens de uma string.
@@ -31,17 +38,22 @@ public class TokenUtils {
 			2. Filtra os tokens:
 			   - Remove tokens com menos de 3 caracteres.
 			   - Remove tokens que são numéricos.
-			   - Remove tokens que estão na lista de stop words (STOP_WORDS).
-			   - Remove tokens que não podem ser codificados no charset ISO_8859_1.
-			3. Coleta os tokens filtrados: Retorna a lista de tokens resultantes.
+			3. Normaliza os tokens: Remove acentos e reduz plurais conforme a configuração do TokenNormalizer.
+			4. Remove os tokens normalizados que estão na lista de stop words (STOP_WORDS), também normalizada.
+			5. Remove os tokens sem nenhuma letra (sequências de símbolos geradas pelo OCR). Tokens em outros alfabetos,
+			   como cirílico e grego, são mantidos.
+			6. Coleta os tokens filtrados: Retorna a lista de tokens resultantes.
 		 */
 
 		SimpleTokenizer tokenizer = SimpleTokenizer.INSTANCE;
 		String[] tokens = tokenizer.tokenize(str.toLowerCase());
 
-		// Filtra os tokens removendo tokens com menos de 3 caracteres, tokens numéricos, stop words e tokens que não podem ser codificados no charset ISO_8859_1
+		// Filtra os tokens removendo tokens com menos de 3 caracteres e tokens numéricos, normaliza os restantes e remove as stop words
 		return Arrays.stream(tokens)
-				.filter(token -> token.length() > 2 && !StringUtils.isNumeric(token) && !STOP_WORDS.contains(token) && ENCODER.canEncode(token))
+				.filter(token -> token.length() > 2 && !StringUtils.isNumeric(token))
+				.map(tokenNormalizer::normalize)
+				.filter(token -> !normalizedStopWords.contains(token))
+				.filter(token -> token.codePoints().anyMatch(Character::isLetter))
 				.collect(Collectors.toList());
 	}
 }
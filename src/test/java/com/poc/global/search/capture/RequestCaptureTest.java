@@ -0,0 +1,97 @@
+package com.poc.global.search.capture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poc.global.search.rest.vo.OcrVO;
+import com.poc.global.search.rest.vo.SearchVO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class RequestCaptureTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@TempDir
+	private Path tempDir;
+
+	@Test
+	void writesOneJsonLinePerRequestInReplayFormat() throws Exception {
+		Path file = tempDir.resolve("requests.jsonl");
+		RequestCapture requestCapture = newRequestCapture(file.toString(), 1024);
+
+		requestCapture.captureIngest(OcrVO.builder().tenantId("cliente-a").fileId(10).file("contratações").build());
+		requestCapture.captureUpload(new MockMultipartFile("file", "file.txt", "text/plain",
+				"relatório".getBytes(StandardCharsets.UTF_8)), 11, "default");
+		requestCapture.captureSearch(SearchVO.builder().tenantId("cliente-a").termToSearch("contrato social").searchType("EXACT").build());
+		requestCapture.close();
+
+		List<CapturedRequest> requests = new ArrayList<>();
+		for (String line : Files.readAllLines(file, StandardCharsets.UTF_8))
+			requests.add(objectMapper.readValue(line, CapturedRequest.class));
+
+		assertEquals(List.of(
+				CapturedRequest.builder().type(CapturedRequest.Type.INGEST).tenantId("cliente-a").fileId(10).file("contratações").build(),
+				CapturedRequest.builder().type(CapturedRequest.Type.UPLOAD).tenantId("default").fileId(11).file("relatório").build(),
+				CapturedRequest.builder().type(CapturedRequest.Type.SEARCH).tenantId("cliente-a").termToSearch("contrato social").searchType("EXACT").build()
+		), requests);
+
+		// O arquivo temporário do upload é removido após a gravação
+		try (var files = Files.list(tempDir)) {
+			assertEquals(List.of(file), files.toList());
+		}
+	}
+
+	@Test
+	void appendsToExistingFile() throws Exception {
+		Path file = tempDir.resolve("requests.jsonl");
+		Files.writeString(file, "{\"type\":\"SEARCH\",\"tenantId\":\"default\",\"termToSearch\":\"nota\",\"searchType\":\"ANY\"}" + System.lineSeparator());
+
+		RequestCapture requestCapture = newRequestCapture(file.toString(), 1024);
+		requestCapture.captureSearch(SearchVO.builder().tenantId("default").termToSearch("fiscal").searchType("ANY").build());
+		requestCapture.close();
+
+		assertEquals(2, Files.readAllLines(file).size());
+	}
+
+	@Test
+	void dropsRequestsAboveTheQueueLimit() throws Exception {
+		Path file = tempDir.resolve("requests.jsonl");
+		RequestCapture requestCapture = newRequestCapture(file.toString(), 10);
+
+		requestCapture.captureIngest(OcrVO.builder().tenantId("default").fileId(1).file("texto maior que o limite da fila").build());
+		requestCapture.captureSearch(SearchVO.builder().tenantId("default").termToSearch("nota").searchType("ANY").build());
+		requestCapture.close();
+
+		assertEquals(1, requestCapture.getDropped());
+		assertEquals(1, Files.readAllLines(file).size());
+	}
+
+	@Test
+	void doesNothingWhenDisabled() throws Exception {
+		RequestCapture requestCapture = newRequestCapture("", 1024);
+
+		requestCapture.captureSearch(SearchVO.builder().tenantId("default").termToSearch("nota").searchType("ANY").build());
+		requestCapture.close();
+
+		assertFalse(requestCapture.isEnabled());
+		assertEquals(0, tempDir.toFile().list().length);
+	}
+
+	private RequestCapture newRequestCapture(String file, long maxQueuedBytes) {
+		RequestCapture requestCapture = new RequestCapture();
+		ReflectionTestUtils.setField(requestCapture, "file", file);
+		ReflectionTestUtils.setField(requestCapture, "maxQueuedBytes", maxQueuedBytes);
+		requestCapture.start();
+		return requestCapture;
+	}
+}
@@ -0,0 +1,205 @@
+package com.poc.global.search.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+	private static final long BASELINE_RTT = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final long CONGESTED_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+	private static final long SMALL_FILE = 2 * 1024;
+	private static final long LARGE_FILE = 1024 * 1024;
+
+	@Test
+	void acquiresUpToTheLimitAndRejectsWithoutQueue() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 2, 0, 1000);
+
+		assertTrue(limiter.tryAcquire());
+		assertTrue(limiter.tryAcquire());
+		assertFalse(limiter.tryAcquire());
+
+		assertEquals(2, limiter.getInFlight());
+		assertEquals(1, limiter.getRejected());
+	}
+
+	@Test
+	void queuedRequestAcquiresAfterRelease() throws Exception {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 1, 1, 1, 1, 5000);
+		assertTrue(limiter.tryAcquire());
+
+		CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(limiter::tryAcquire);
+		awaitQueued(limiter, 1);
+
+		limiter.release(BASELINE_RTT);
+
+		assertTrue(queued.get(5, TimeUnit.SECONDS));
+		assertEquals(1, limiter.getInFlight());
+		assertEquals(0, limiter.getQueued());
+	}
+
+	@Test
+	void rejectsImmediatelyWhenTheQueueIsFull() throws Exception {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 1, 1, 1, 1, 5000);
+		assertTrue(limiter.tryAcquire());
+
+		CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(limiter::tryAcquire);
+		awaitQueued(limiter, 1);
+
+		long startTime = System.nanoTime();
+		assertFalse(limiter.tryAcquire());
+		assertTrue(System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(1));
+		assertEquals(1, limiter.getRejected());
+
+		limiter.release(BASELINE_RTT);
+		assertTrue(queued.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void rejectsAfterTheQueueTimeout() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 1, 1, 1, 1, 50);
+		assertTrue(limiter.tryAcquire());
+
+		long startTime = System.nanoTime();
+		assertFalse(limiter.tryAcquire());
+
+		assertTrue(System.nanoTime() - startTime >= TimeUnit.MILLISECONDS.toNanos(50));
+		assertEquals(1, limiter.getRejected());
+		assertEquals(0, limiter.getQueued());
+	}
+
+	@Test
+	void limitDropsToTheMinimumAndStaysThereUnderSustainedQueueing() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 8, 1, 8, 0, 0);
+
+		for (int i = 0; i < 10; i++)
+			acquireAndRelease(limiter, BASELINE_RTT);
+
+		for (int i = 0; i < 100; i++)
+			acquireAndRelease(limiter, CONGESTED_RTT);
+
+		assertEquals(1, limiter.getLimit());
+
+		// Uma carga pesada mais curta que a janela da menor latência não pode virar a nova latência sem fila
+		for (int i = 0; i < 1500; i++)
+			acquireAndRelease(limiter, CONGESTED_RTT);
+
+		assertEquals(1, limiter.getLimit());
+	}
+
+	@Test
+	void singleFastSampleExpiresWithTheWindow() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 8, 1, 8, 0, 0);
+		acquireAndRelease(limiter, TimeUnit.MICROSECONDS.toNanos(50));
+
+		// O limite cai para 1 até a amostra sair da janela (até 2 * MIN_RTT_WINDOW amostras) e depois volta a crescer
+		for (int round = 0; round < 3000; round++)
+			runRound(limiter, TimeUnit.MILLISECONDS.toNanos(20), 0);
+
+		assertEquals(8, limiter.getLimit());
+	}
+
+	@Test
+	void requestsOfDifferentSizesAreNotTreatedAsQueueing() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 8, 1, 8, 0, 0);
+
+		// Um arquivo pequeno (2 ms) a cada 20 arquivos grandes (60 ms), sem contenção
+		int request = 0;
+		for (int round = 0; round < 2000; round++) {
+			int permits = limiter.getLimit();
+			for (int i = 0; i < permits; i++)
+				assertTrue(limiter.tryAcquire());
+
+			for (int i = 0; i < permits; i++) {
+				boolean small = request++ % 21 == 0;
+				limiter.release(TimeUnit.MILLISECONDS.toNanos(small ? 2 : 60), small ? SMALL_FILE : LARGE_FILE);
+			}
+		}
+
+		assertEquals(8, limiter.getLimit());
+	}
+
+	@Test
+	void sizesWithinTheSameClassDoNotReduceTheLimit() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 8, 1, 8, 0, 0);
+
+		// Latência proporcional ao tamanho, sem contenção
+		for (int round = 0; round < 500; round++) {
+			long size = LARGE_FILE + (round % 10) * LARGE_FILE / 30;
+			runRound(limiter, size * 50, size);
+		}
+
+		assertEquals(8, limiter.getLimit());
+	}
+
+	@Test
+	void limitGrowsToTheMaximumWhileLatencyStaysAtTheBaseline() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 1, 1, 8, 0, 0);
+
+		for (int round = 0; round < 100; round++) {
+			int permits = limiter.getLimit();
+			for (int i = 0; i < permits; i++)
+				assertTrue(limiter.tryAcquire());
+			for (int i = 0; i < permits; i++)
+				limiter.release(BASELINE_RTT);
+		}
+
+		assertEquals(8, limiter.getLimit());
+	}
+
+	@Test
+	void limitDoesNotGrowWhenItIsNotUsed() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 4, 1, 8, 0, 0);
+
+		for (int i = 0; i < 100; i++)
+			acquireAndRelease(limiter, BASELINE_RTT);
+
+		assertEquals(4, limiter.getLimit());
+	}
+
+	@Test
+	void failedRequestsDoNotChangeTheLimit() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 4, 1, 8, 0, 0);
+		acquireAndRelease(limiter, BASELINE_RTT);
+
+		for (int i = 0; i < 100; i++)
+			acquireAndRelease(limiter, 0);
+
+		assertEquals(4, limiter.getLimit());
+		assertEquals(0, limiter.getInFlight());
+	}
+
+	@Test
+	void rejectsInvalidLimits() {
+		assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter("test", 1, 0, 8, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter("test", 9, 1, 8, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter("test", 4, 8, 2, 0, 0));
+	}
+
+	/**
+	 * Ocupa todas as permissões do limite atual e as libera com a mesma latência e tamanho.
+	 */
+	private static void runRound(AdaptiveConcurrencyLimiter limiter, long rttNanos, long requestSize) {
+		int permits = limiter.getLimit();
+		for (int i = 0; i < permits; i++)
+			assertTrue(limiter.tryAcquire());
+		for (int i = 0; i < permits; i++)
+			limiter.release(rttNanos, requestSize);
+	}
+
+	private static void acquireAndRelease(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+		assertTrue(limiter.tryAcquire());
+		limiter.release(rttNanos);
+	}
+
+	private static void awaitQueued(AdaptiveConcurrencyLimiter limiter, int expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (limiter.getQueued() < expected) {
+			assertTrue(System.nanoTime() < deadline, "Request was not queued");
+			Thread.sleep(5);
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.poc.global.search.limiter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.*;
+
+class AdmissionControlFilterTest {
+
+	@Test
+	void rejectsWithRetryAfterWithoutCallingTheChain() throws Exception {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("ingest", 1, 1, 1, 0, 0);
+		assertTrue(limiter.tryAcquire());
+
+		FilterChain filterChain = mock(FilterChain.class);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		new AdmissionControlFilter(limiter, 7).doFilter(new MockHttpServletRequest("POST", "/ocr/upload"), response, filterChain);
+
+		assertEquals(429, response.getStatus());
+		assertEquals("7", response.getHeader("Retry-After"));
+		verifyNoInteractions(filterChain);
+	}
+
+	@Test
+	void releasesPermitAfterTheRequest() throws Exception {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("search", 1, 1, 1, 0, 0);
+		MockFilterChain filterChain = new MockFilterChain();
+
+		new AdmissionControlFilter(limiter, 7).doFilter(new MockHttpServletRequest("POST", "/search"), new MockHttpServletResponse(), filterChain);
+
+		assertNotNull(filterChain.getRequest());
+		assertEquals(0, limiter.getInFlight());
+	}
+
+	@Test
+	void releasesPermitWhenTheRequestFails() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("search", 1, 1, 1, 0, 0);
+		FilterChain filterChain = (request, response) -> {
+			throw new IllegalStateException("falha");
+		};
+
+		assertThrows(IllegalStateException.class, () -> new AdmissionControlFilter(limiter, 7)
+				.doFilter(new MockHttpServletRequest("POST", "/search"), new MockHttpServletResponse(), filterChain));
+		assertEquals(0, limiter.getInFlight());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {400, 403, 404, 500})
+	void nonSuccessfulResponsesDoNotSampleTheLatency(int status) throws Exception {
+		AdaptiveConcurrencyLimiter limiter = spy(new AdaptiveConcurrencyLimiter("ingest", 1, 1, 1, 0, 0));
+		FilterChain filterChain = (request, response) -> ((HttpServletResponse) response).setStatus(status);
+
+		new AdmissionControlFilter(limiter, 7).doFilter(new MockHttpServletRequest("POST", "/ocr/process"), new MockHttpServletResponse(), filterChain);
+
+		verify(limiter).release(eq(0L), anyLong());
+	}
+
+	@Test
+	void successfulResponsesSampleTheLatencyWithTheRequestSize() throws Exception {
+		AdaptiveConcurrencyLimiter limiter = spy(new AdaptiveConcurrencyLimiter("ingest", 1, 1, 1, 0, 0));
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/ocr/process");
+		request.setContent(new byte[2048]);
+
+		new AdmissionControlFilter(limiter, 7).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+		verify(limiter).release(longThat(rttNanos -> rttNanos > 0), eq(2048L));
+	}
+}
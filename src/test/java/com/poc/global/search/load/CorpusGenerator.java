@@ -0,0 +1,167 @@
+package com.poc.global.search.load;
+
+import com.poc.global.search.capture.CapturedRequest;
+import com.poc.global.search.enumerator.SearchTypes;
+
+import java.util.*;
+
+import static com.poc.global.search.utils.Constants.DEFAULT_TENANT;
+
+/**
+ * Gera um corpus sintético parecido com o resultado de um OCR: palavras com acentos e plurais, números, pontuação e
+ * erros de reconhecimento de caracteres, com a frequência das palavras seguindo uma distribuição de Zipf.
+ * Também gera as buscas ANY e EXACT sobre esse corpus, com os termos mais frequentes sendo os mais buscados.
+ * Documentos e buscas são distribuídos entre os tenants também seguindo Zipf, simulando poucos clientes grandes e
+ * muitos clientes pequenos.
+ *
+ * Com a mesma seed o corpus e as buscas gerados são sempre os mesmos, permitindo comparar execuções.
+ */
+public class CorpusGenerator {
+
+	private static final String[] SYLLABLES = {
+			"ca", "con", "tra", "ta", "do", "men", "to", "pro", "ces", "so", "re", "la", "ti", "vo", "de", "cla", "ra",
+			"ção", "são", "pú", "bli", "co", "ní", "vel", "á", "rea", "fi", "nan", "cei", "ro", "ju", "rí", "di", "ga"
+	};
+
+	private static final String[] SUFFIXES = {"", "", "", "s", "es", "ções", "ção", "mente"};
+
+	private static final String[] PUNCTUATION = {"", "", "", "", ",", ".", ";", ":"};
+
+	// Substituições comuns em erros de OCR
+	private static final char[][] OCR_ERRORS = {{'o', '0'}, {'l', '1'}, {'e', 'c'}, {'m', 'n'}, {'a', 'ã'}};
+
+	private final Random random;
+	private final List<String> vocabulary;
+	private final ZipfianGenerator wordGenerator;
+	private final int tenants;
+	private final ZipfianGenerator tenantGenerator;
+	private final double ocrErrorRate;
+	private final Map<String, List<String>> phrases = new HashMap<>();
+
+	public CorpusGenerator(long seed, int vocabularySize, double zipfExponent, int tenants, double ocrErrorRate) {
+		this.random = new Random(seed);
+		this.vocabulary = buildVocabulary(vocabularySize);
+		this.wordGenerator = new ZipfianGenerator(vocabularySize, zipfExponent);
+		this.tenants = tenants;
+		this.tenantGenerator = new ZipfianGenerator(tenants, 1.0);
+		this.ocrErrorRate = ocrErrorRate;
+	}
+
+	/**
+	 * Gera a requisição de ingestão de um documento, metade pelo /ocr/process e metade pelo /ocr/upload.
+	 *
+	 * @param fileId O ID do arquivo.
+	 * @param words A quantidade de palavras do documento.
+	 * @return A requisição de ingestão.
+	 */
+	public CapturedRequest nextIngest(int fileId, int words) {
+		String tenantId = nextTenant();
+
+		return CapturedRequest.builder()
+				.type(random.nextBoolean() ? CapturedRequest.Type.INGEST : CapturedRequest.Type.UPLOAD)
+				.tenantId(tenantId)
+				.fileId(fileId)
+				.file(nextDocument(words, phrases.computeIfAbsent(tenantId, key -> new ArrayList<>())))
+				.build();
+	}
+
+	/**
+	 * Gera o texto de um documento.
+	 * Alguns trechos do documento são guardados para serem usados nas buscas EXACT.
+	 *
+	 * @param words A quantidade de palavras do documento.
+	 * @param tenantPhrases Os trechos já guardados do tenant do documento.
+	 * @return O texto do documento.
+	 */
+	private String nextDocument(int words, List<String> tenantPhrases) {
+		StringBuilder stringBuilder = new StringBuilder(words * 8);
+		List<String> phrase = new ArrayList<>();
+
+		for (int i = 0; i < words; i++) {
+			String word = random.nextInt(20) == 0 ? String.valueOf(random.nextInt(100000)) : nextWord();
+
+			if (random.nextDouble() < ocrErrorRate)
+				word = applyOcrError(word);
+
+			stringBuilder.append(word).append(PUNCTUATION[random.nextInt(PUNCTUATION.length)]);
+			stringBuilder.append(random.nextInt(12) == 0 ? '\n' : ' ');
+
+			phrase.add(word);
+			if (phrase.size() == 4) {
+				if (random.nextInt(50) == 0)
+					tenantPhrases.add(String.join(" ", phrase));
+				phrase.clear();
+			}
+		}
+
+		return stringBuilder.toString();
+	}
+
+	/**
+	 * Gera uma busca com tipo ANY ou EXACT.
+	 * As buscas ANY combinam de 1 a 3 termos do vocabulário, e as buscas EXACT usam trechos dos documentos já gerados.
+	 *
+	 * @param exactRatio A proporção de buscas EXACT.
+	 * @return A requisição de busca.
+	 */
+	public CapturedRequest nextSearch(double exactRatio) {
+		String tenantId = nextTenant();
+		List<String> tenantPhrases = phrases.getOrDefault(tenantId, List.of());
+		boolean exact = !tenantPhrases.isEmpty() && random.nextDouble() < exactRatio;
+		String term;
+
+		if (exact) {
+			term = tenantPhrases.get(random.nextInt(tenantPhrases.size()));
+		} else {
+			int terms = 1 + random.nextInt(3);
+			List<String> words = new ArrayList<>();
+			for (int i = 0; i < terms; i++)
+				words.add(nextWord());
+			term = String.join(" ", words);
+		}
+
+		return CapturedRequest.builder()
+				.type(CapturedRequest.Type.SEARCH)
+				.tenantId(tenantId)
+				.termToSearch(term)
+				.searchType((exact ? SearchTypes.EXACT : SearchTypes.ANY).name())
+				.build();
+	}
+
+	private String nextTenant() {
+		return tenants == 1 ? DEFAULT_TENANT : "tenant-" + tenantGenerator.next(random);
+	}
+
+	private String nextWord() {
+		return vocabulary.get(wordGenerator.next(random));
+	}
+
+	private List<String> buildVocabulary(int size) {
+		List<String> words = new ArrayList<>(size);
+
+		while (words.size() < size) {
+			StringBuilder stringBuilder = new StringBuilder();
+			int syllables = 2 + random.nextInt(4);
+
+			for (int i = 0; i < syllables; i++)
+				stringBuilder.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+
+			stringBuilder.append(SUFFIXES[random.nextInt(SUFFIXES.length)]);
+
+			// Parte das palavras começa com letra maiúscula, como em títulos e nomes próprios
+			String word = stringBuilder.toString();
+			if (random.nextInt(10) == 0)
+				word = Character.toUpperCase(word.charAt(0)) + word.substring(1);
+
+			words.add(word);
+		}
+
+		return words;
+	}
+
+	private String applyOcrError(String word) {
+		char[] error = OCR_ERRORS[random.nextInt(OCR_ERRORS.length)];
+
+		return word.replace(error[0], error[1]);
+	}
+}
@@ -0,0 +1,76 @@
+package com.poc.global.search.load;
+
+import com.poc.global.search.entity.Tokens;
+import com.poc.global.search.repository.OcrRepository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Implementação em memória do OcrRepository, usada pelo harness de carga no lugar do MongoDB.
+ * Os documentos são copiados na leitura e na gravação, simulando a serialização do banco de dados: alterações feitas
+ * pelos serviços só são vistas pelas outras requisições depois do saveAll.
+ */
+public class InMemoryOcrRepository implements OcrRepository {
+
+	private final Map<String, Map<String, Tokens>> tenants = new ConcurrentHashMap<>();
+
+	@Override
+	public List<Tokens> findAllById(String tenantId, Collection<String> tokens) {
+		Map<String, Tokens> collection = collection(tenantId);
+		List<Tokens> result = new ArrayList<>();
+
+		for (String token : tokens) {
+			Tokens tokenEntity = collection.get(token);
+			if (tokenEntity != null)
+				result.add(copy(tokenEntity));
+		}
+
+		return result;
+	}
+
+	@Override
+	public void saveAll(String tenantId, Collection<Tokens> tokens) {
+		Map<String, Tokens> collection = collection(tenantId);
+
+		for (Tokens tokenEntity : tokens)
+			collection.put(tokenEntity.getToken(), copy(tokenEntity));
+	}
+
+	@Override
+	public void deleteAllById(String tenantId, Collection<String> tokens) {
+		collection(tenantId).keySet().removeAll(tokens);
+	}
+
+	@Override
+	public Stream<Tokens> streamAll(String tenantId) {
+		return new ArrayList<>(collection(tenantId).values()).stream().map(InMemoryOcrRepository::copy);
+	}
+
+	@Override
+	public Set<String> findAllTenants() {
+		return new HashSet<>(tenants.keySet());
+	}
+
+	/**
+	 * Retorna a quantidade de tokens distintos de um tenant, usada no relatório do harness.
+	 *
+	 * @param tenantId O ID do tenant.
+	 * @return A quantidade de documentos Tokens do tenant.
+	 */
+	public int count(String tenantId) {
+		return collection(tenantId).size();
+	}
+
+	private Map<String, Tokens> collection(String tenantId) {
+		return tenants.computeIfAbsent(tenantId, key -> new ConcurrentHashMap<>());
+	}
+
+	private static Tokens copy(Tokens tokenEntity) {
+		HashMap<Integer, List<String>> filesIds = new HashMap<>();
+		tokenEntity.getFilesIds().forEach((fileId, lookAheadStrings) -> filesIds.put(fileId, new ArrayList<>(lookAheadStrings)));
+
+		return Tokens.builder().token(tokenEntity.getToken()).filesIds(filesIds).build();
+	}
+}
@@ -0,0 +1,232 @@
+package com.poc.global.search.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poc.global.search.capture.CapturedRequest;
+import com.poc.global.search.rest.controller.OcrController;
+import com.poc.global.search.rest.controller.SearchController;
+import com.poc.global.search.rest.vo.OcrVO;
+import com.poc.global.search.rest.vo.SearchVO;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Harness de carga que executa as requisições pela pilha do Spring MVC (MockMvc), passando pelos filtros do controle
+ * de admissão, pela resolução do multipart e pelos controllers, com os serviços reais e o InMemoryOcrRepository no
+ * lugar do MongoDB.
+ *
+ * Os workers executam em loop fechado: cada worker só envia a próxima requisição depois de receber a resposta da
+ * anterior, então os números medem a capacidade do serviço e não a latência sob uma taxa fixa de chegada.
+ * Requisições rejeitadas com 429 são contadas à parte e não entram no histograma de latência.
+ */
+@Slf4j
+@AllArgsConstructor
+public class LoadHarness {
+
+	private MockMvc mockMvc;
+	private ObjectMapper objectMapper;
+
+	/**
+	 * Executa as requisições sem medir a latência, usado para carregar o índice antes das medições de busca.
+	 *
+	 * @param requests As requisições a serem executadas.
+	 * @throws Exception Se a requisição falhar ou não retornar 200.
+	 */
+	public void preload(List<CapturedRequest> requests) throws Exception {
+		for (CapturedRequest request : requests) {
+			int status = execute(request);
+			if (status != HttpStatus.OK.value())
+				throw new IllegalStateException("Preload request failed with status " + status + ": " + request.getType());
+		}
+	}
+
+	/**
+	 * Executa as ingestões (INGEST e UPLOAD) e as buscas em pools de threads separados.
+	 * Se houver ingestões, as buscas são repetidas em ciclo até todas as ingestões terminarem (carga mista); caso
+	 * contrário, cada busca é executada uma única vez.
+	 *
+	 * @param name O nome da execução, usado no relatório.
+	 * @param ingests As requisições de ingestão.
+	 * @param ingestThreads A quantidade de threads de ingestão.
+	 * @param searches As requisições de busca.
+	 * @param searchThreads A quantidade de threads de busca.
+	 * @param maxDuration O tempo máximo da execução.
+	 * @return O relatório da execução.
+	 */
+	public LoadReport run(String name, List<CapturedRequest> ingests, int ingestThreads, List<CapturedRequest> searches, int searchThreads, Duration maxDuration) {
+		LoadReport report = new LoadReport(name);
+		long deadline = System.nanoTime() + maxDuration.toNanos();
+		boolean cycleSearches = !ingests.isEmpty();
+
+		AtomicInteger nextIngest = new AtomicInteger();
+		AtomicInteger nextSearch = new AtomicInteger();
+		AtomicBoolean ingestFinished = new AtomicBoolean(ingests.isEmpty());
+		CountDownLatch ingestLatch = new CountDownLatch(ingests.isEmpty() ? 0 : ingestThreads);
+
+		List<Runnable> workers = new ArrayList<>();
+
+		for (int i = 0; i < ingestThreads && !ingests.isEmpty(); i++) {
+			workers.add(() -> {
+				try {
+					int index;
+					while (System.nanoTime() < deadline && (index = nextIngest.getAndIncrement()) < ingests.size())
+						executeAndRecord(ingests.get(index), report);
+				} finally {
+					ingestLatch.countDown();
+				}
+			});
+		}
+
+		for (int i = 0; i < searchThreads && !searches.isEmpty(); i++) {
+			workers.add(() -> {
+				while (System.nanoTime() < deadline) {
+					int index = nextSearch.getAndIncrement();
+
+					if (cycleSearches) {
+						if (ingestFinished.get())
+							break;
+						index %= searches.size();
+					} else if (index >= searches.size()) {
+						break;
+					}
+
+					executeAndRecord(searches.get(index), report);
+				}
+			});
+		}
+
+		long elapsed = runWorkers(workers, () -> {
+			try {
+				ingestLatch.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			ingestFinished.set(true);
+		});
+
+		report.setElapsedNanos(elapsed);
+		log.info(report.format());
+
+		return report;
+	}
+
+	/**
+	 * Reexecuta um log de requisições capturado, na ordem do log, com ingestões e buscas misturadas.
+	 *
+	 * @param name O nome da execução, usado no relatório.
+	 * @param requests As requisições do log.
+	 * @param threads A quantidade de threads.
+	 * @return O relatório da execução.
+	 */
+	public LoadReport replay(String name, List<CapturedRequest> requests, int threads) {
+		LoadReport report = new LoadReport(name);
+		AtomicInteger next = new AtomicInteger();
+
+		List<Runnable> workers = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			workers.add(() -> {
+				int index;
+				while ((index = next.getAndIncrement()) < requests.size())
+					executeAndRecord(requests.get(index), report);
+			});
+		}
+
+		report.setElapsedNanos(runWorkers(workers, () -> { }));
+		log.info(report.format());
+
+		return report;
+	}
+
+	/**
+	 * Executa os workers e aguarda o término de todos.
+	 *
+	 * @param workers Os workers a serem executados.
+	 * @param coordinator Tarefa executada na thread atual enquanto os workers executam.
+	 * @return O tempo total de execução em nanossegundos.
+	 */
+	private long runWorkers(List<Runnable> workers, Runnable coordinator) {
+		ExecutorService executor = Executors.newFixedThreadPool(workers.size());
+		long startTime = System.nanoTime();
+
+		try {
+			workers.forEach(executor::execute);
+			coordinator.run();
+			executor.shutdown();
+
+			if (!executor.awaitTermination(1, TimeUnit.HOURS))
+				throw new IllegalStateException("Load workers did not finish");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for load workers", e);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		return System.nanoTime() - startTime;
+	}
+
+	private void executeAndRecord(CapturedRequest request, LoadReport report) {
+		long startTime = System.nanoTime();
+
+		try {
+			int status = execute(request);
+
+			if (status == HttpStatus.OK.value()) {
+				report.record(request.getType(), System.nanoTime() - startTime);
+			} else if (status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+				report.recordRejected(request.getType());
+			} else {
+				report.recordError(request.getType());
+				log.warn("Request failed with status " + status + ": " + request.getType());
+			}
+		} catch (Exception e) {
+			report.recordError(request.getType());
+			log.warn("Request failed: " + request.getType(), e);
+		}
+	}
+
+	private int execute(CapturedRequest request) throws Exception {
+		return mockMvc.perform(toRequestBuilder(request)).andReturn().getResponse().getStatus();
+	}
+
+	private RequestBuilder toRequestBuilder(CapturedRequest request) throws Exception {
+		return switch (request.getType()) {
+			case INGEST -> post(OcrController.BASE_URL + "/process")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(objectMapper.writeValueAsBytes(OcrVO.builder()
+							.file(request.getFile())
+							.fileId(request.getFileId())
+							.tenantId(request.getTenantId())
+							.build()));
+			case UPLOAD -> multipart(OcrController.BASE_URL + "/upload")
+					.file(new MockMultipartFile("file", "file.txt", MediaType.TEXT_PLAIN_VALUE, request.getFile().getBytes(StandardCharsets.UTF_8)))
+					.param("fileId", String.valueOf(request.getFileId()))
+					.param("tenantId", request.getTenantId());
+			case SEARCH -> post(SearchController.BASE_URL)
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(objectMapper.writeValueAsBytes(SearchVO.builder()
+							.termToSearch(request.getTermToSearch())
+							.searchType(request.getSearchType())
+							.tenantId(request.getTenantId())
+							.build()));
+		};
+	}
+}
@@ -0,0 +1,35 @@
+package com.poc.global.search.load;
+
+import com.poc.global.search.capture.RequestCapture;
+import com.poc.global.search.config.AdmissionControlConfiguration;
+import com.poc.global.search.service.ocr.OcrImpl;
+import com.poc.global.search.service.reindex.ReindexImpl;
+import com.poc.global.search.service.search.SearchImpl;
+import com.poc.global.search.utils.TenantUtils;
+import com.poc.global.search.utils.TokenNormalizer;
+import com.poc.global.search.utils.TokenUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Beans usados pelo harness de carga junto com a camada web do @WebMvcTest: os serviços reais, os filtros e
+ * limitadores do controle de admissão, e o InMemoryOcrRepository no lugar do MongoDB.
+ */
+@TestConfiguration
+@Import({AdmissionControlConfiguration.class, OcrImpl.class, SearchImpl.class, ReindexImpl.class, TokenUtils.class,
+		TokenNormalizer.class, TenantUtils.class, RequestCapture.class})
+public class LoadHarnessConfiguration {
+
+	@Bean
+	public InMemoryOcrRepository ocrRepository() {
+		return new InMemoryOcrRepository();
+	}
+
+	@Bean
+	public MeterRegistry meterRegistry() {
+		return new SimpleMeterRegistry();
+	}
+}
@@ -0,0 +1,176 @@
+package com.poc.global.search.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poc.global.search.capture.CapturedRequest;
+import com.poc.global.search.rest.controller.OcrController;
+import com.poc.global.search.rest.controller.SearchController;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcPrint;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cenários de carga usados como baseline para as mudanças de performance.
+ * Não fazem parte do build padrão; para executar: mvn test -Pload
+ *
+ * As requisições passam pela camada web real (filtros do controle de admissão, multipart e controllers), por isso a
+ * configuração da aplicação também pode ser alterada com propriedades de sistema. Por exemplo:
+ * mvn test -Pload -DloadHarness.documents=2000 -DloadHarness.tenants=10 -Dglobal-search.admission.ingest.max-limit=2
+ * mvn test -Pload -Dglobal-search.tokens.stemming=false
+ *
+ * Para reexecutar as requisições gravadas pelo RequestCapture (global-search.capture.file) em produção:
+ * mvn test -Pload -DloadHarness.replay=/caminho/requests.jsonl
+ */
+@Tag("load")
+@WebMvcTest(controllers = {OcrController.class, SearchController.class})
+@AutoConfigureMockMvc(print = MockMvcPrint.NONE)
+@Import(LoadHarnessConfiguration.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class LoadHarnessTest {
+
+	private static final long SEED = Long.getLong("loadHarness.seed", 42);
+	private static final int DOCUMENTS = Integer.getInteger("loadHarness.documents", 500);
+	private static final int WORDS_PER_DOCUMENT = Integer.getInteger("loadHarness.words", 2000);
+	private static final int VOCABULARY_SIZE = Integer.getInteger("loadHarness.vocabulary", 20000);
+	private static final double ZIPF_EXPONENT = Double.parseDouble(System.getProperty("loadHarness.zipf", "1.1"));
+	private static final double OCR_ERROR_RATE = Double.parseDouble(System.getProperty("loadHarness.ocrErrorRate", "0.02"));
+	private static final int TENANTS = Integer.getInteger("loadHarness.tenants", 1);
+	private static final int SEARCHES = Integer.getInteger("loadHarness.searches", 5000);
+	private static final double EXACT_RATIO = Double.parseDouble(System.getProperty("loadHarness.exactRatio", "0.3"));
+	private static final int INGEST_THREADS = Integer.getInteger("loadHarness.ingestThreads", 4);
+	private static final int SEARCH_THREADS = Integer.getInteger("loadHarness.searchThreads", 8);
+	private static final Duration MAX_DURATION = Duration.ofSeconds(Long.getLong("loadHarness.durationSeconds", 300));
+
+	private static final String SAMPLE_REPLAY_FILE = "load/sample-requests.jsonl";
+
+	private static List<CapturedRequest> ingests;
+	private static List<CapturedRequest> searches;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private LoadHarness loadHarness;
+
+	@DynamicPropertySource
+	static void allowedTenants(DynamicPropertyRegistry registry) {
+		List<String> tenants = new ArrayList<>();
+		for (int i = 0; i < TENANTS; i++)
+			tenants.add("tenant-" + i);
+
+		registry.add("global-search.tenants.allowed", () -> String.join(",", tenants));
+	}
+
+	@BeforeAll
+	static void generateWorkload() {
+		CorpusGenerator corpusGenerator = new CorpusGenerator(SEED, VOCABULARY_SIZE, ZIPF_EXPONENT, TENANTS, OCR_ERROR_RATE);
+
+		ingests = new ArrayList<>(DOCUMENTS);
+		for (int fileId = 1; fileId <= DOCUMENTS; fileId++)
+			ingests.add(corpusGenerator.nextIngest(fileId, WORDS_PER_DOCUMENT));
+
+		searches = new ArrayList<>(SEARCHES);
+		for (int i = 0; i < SEARCHES; i++)
+			searches.add(corpusGenerator.nextSearch(EXACT_RATIO));
+	}
+
+	@BeforeEach
+	void setUp() {
+		loadHarness = new LoadHarness(mockMvc, objectMapper);
+	}
+
+	@Test
+	void ingestOnly() {
+		LoadReport report = loadHarness.run("ingest", ingests, INGEST_THREADS, List.of(), 0, MAX_DURATION);
+
+		assertNoErrors(report);
+		assertTrue(report.getHistogram(CapturedRequest.Type.INGEST).getTotalCount() > 0);
+	}
+
+	@Test
+	void searchOnly() throws Exception {
+		loadHarness.preload(ingests);
+
+		LoadReport report = loadHarness.run("search", List.of(), 0, searches, SEARCH_THREADS, MAX_DURATION);
+
+		assertNoErrors(report);
+		assertTrue(report.getHistogram(CapturedRequest.Type.SEARCH).getTotalCount() > 0);
+	}
+
+	@Test
+	void mixed() throws Exception {
+		// Metade do corpus já indexada, a outra metade é ingerida enquanto as buscas executam
+		int half = ingests.size() / 2;
+		loadHarness.preload(ingests.subList(0, half));
+
+		LoadReport report = loadHarness.run("mixed", ingests.subList(half, ingests.size()), INGEST_THREADS, searches, SEARCH_THREADS, MAX_DURATION);
+
+		assertNoErrors(report);
+		assertTrue(report.getHistogram(CapturedRequest.Type.INGEST).getTotalCount() > 0);
+	}
+
+	/**
+	 * Sem -DloadHarness.replay, reexecuta o exemplo em src/test/resources/load/sample-requests.jsonl.
+	 */
+	@Test
+	void replay() throws IOException {
+		String replayFile = System.getProperty("loadHarness.replay");
+		List<String> lines;
+
+		if (replayFile != null) {
+			lines = Files.readAllLines(Path.of(replayFile));
+		} else {
+			replayFile = SAMPLE_REPLAY_FILE;
+			try (InputStream inputStream = new ClassPathResource(SAMPLE_REPLAY_FILE).getInputStream()) {
+				lines = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+			}
+		}
+
+		List<CapturedRequest> requests = new ArrayList<>();
+		for (String line : lines) {
+			if (!line.isBlank())
+				requests.add(objectMapper.readValue(line, CapturedRequest.class));
+		}
+
+		LoadReport report = loadHarness.replay("replay " + replayFile, requests, INGEST_THREADS + SEARCH_THREADS);
+
+		assertNoErrors(report);
+		assertEquals(requests.size(), report.getHistogram(CapturedRequest.Type.INGEST).getTotalCount()
+				+ report.getHistogram(CapturedRequest.Type.UPLOAD).getTotalCount()
+				+ report.getHistogram(CapturedRequest.Type.SEARCH).getTotalCount()
+				+ report.getRejected(CapturedRequest.Type.INGEST) + report.getRejected(CapturedRequest.Type.UPLOAD)
+				+ report.getRejected(CapturedRequest.Type.SEARCH));
+	}
+
+	/**
+	 * Respostas 429 são esperadas sob carga, qualquer outra falha invalida as medições.
+	 */
+	private static void assertNoErrors(LoadReport report) {
+		for (CapturedRequest.Type type : CapturedRequest.Type.values())
+			assertEquals(0, report.getErrors(type), type + " errors");
+	}
+}
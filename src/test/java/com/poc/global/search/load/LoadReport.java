@@ -0,0 +1,98 @@
+package com.poc.global.search.load;
+
+import com.poc.global.search.capture.CapturedRequest;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resultado de uma execução do harness de carga.
+ * Guarda um histograma de latência (em microssegundos) das requisições concluídas, a quantidade de requisições
+ * rejeitadas pelo controle de admissão (429) e a quantidade de erros por tipo de requisição.
+ */
+public class LoadReport {
+
+	// Precisão de 3 dígitos significativos, com o histograma se redimensionando para latências altas
+	private static final int SIGNIFICANT_DIGITS = 3;
+
+	private final String name;
+	private final Map<CapturedRequest.Type, Histogram> histograms = new EnumMap<>(CapturedRequest.Type.class);
+	private final Map<CapturedRequest.Type, AtomicLong> rejected = new EnumMap<>(CapturedRequest.Type.class);
+	private final Map<CapturedRequest.Type, AtomicLong> errors = new EnumMap<>(CapturedRequest.Type.class);
+	private long elapsedNanos;
+
+	public LoadReport(String name) {
+		this.name = name;
+
+		for (CapturedRequest.Type type : CapturedRequest.Type.values()) {
+			histograms.put(type, new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+			rejected.put(type, new AtomicLong());
+			errors.put(type, new AtomicLong());
+		}
+	}
+
+	public void record(CapturedRequest.Type type, long latencyNanos) {
+		histograms.get(type).recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+	}
+
+	public void recordRejected(CapturedRequest.Type type) {
+		rejected.get(type).incrementAndGet();
+	}
+
+	public void recordError(CapturedRequest.Type type) {
+		errors.get(type).incrementAndGet();
+	}
+
+	public void setElapsedNanos(long elapsedNanos) {
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public Histogram getHistogram(CapturedRequest.Type type) {
+		return histograms.get(type);
+	}
+
+	public long getRejected(CapturedRequest.Type type) {
+		return rejected.get(type).get();
+	}
+
+	public long getErrors(CapturedRequest.Type type) {
+		return errors.get(type).get();
+	}
+
+	/**
+	 * Formata o relatório com a vazão e os percentis de latência de cada tipo de requisição executado.
+	 *
+	 * @return O relatório formatado.
+	 */
+	public String format() {
+		double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+		StringBuilder stringBuilder = new StringBuilder();
+
+		stringBuilder.append(String.format(Locale.ROOT, "%n=== %s (%.2fs) ===%n", name, elapsedSeconds));
+		stringBuilder.append(String.format(Locale.ROOT, "%-7s %9s %7s %7s %10s %9s %9s %9s %9s %9s%n",
+				"type", "count", "429", "errors", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+
+		histograms.forEach((type, histogram) -> {
+			long count = histogram.getTotalCount();
+			if (count == 0 && rejected.get(type).get() == 0 && errors.get(type).get() == 0)
+				return;
+
+			stringBuilder.append(String.format(Locale.ROOT, "%-7s %9d %7d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+					type, count, rejected.get(type).get(), errors.get(type).get(), count / elapsedSeconds,
+					millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+					millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+					millis(histogram.getMaxValue())));
+		});
+
+		return stringBuilder.toString();
+	}
+
+	private static double millis(long micros) {
+		return micros / 1000.0;
+	}
+}
@@ -0,0 +1,33 @@
+package com.poc.global.search.load;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Gera inteiros no intervalo [0, size) seguindo uma distribuição de Zipf, em que o item de posição k é escolhido com
+ * probabilidade proporcional a 1 / (k + 1)^exponent. Reproduz a frequência das palavras em textos reais e a
+ * concentração das buscas em poucos termos.
+ */
+public class ZipfianGenerator {
+
+	private final double[] cumulativeProbabilities;
+
+	public ZipfianGenerator(int size, double exponent) {
+		cumulativeProbabilities = new double[size];
+
+		double sum = 0;
+		for (int i = 0; i < size; i++) {
+			sum += 1 / Math.pow(i + 1, exponent);
+			cumulativeProbabilities[i] = sum;
+		}
+
+		for (int i = 0; i < size; i++)
+			cumulativeProbabilities[i] /= sum;
+	}
+
+	public int next(Random random) {
+		int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+
+		return Math.min(index >= 0 ? index : -index - 1, cumulativeProbabilities.length - 1);
+	}
+}
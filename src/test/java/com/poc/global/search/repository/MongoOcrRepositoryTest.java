@@ -0,0 +1,58 @@
+package com.poc.global.search.repository;
+
+import com.poc.global.search.entity.Tokens;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.poc.global.search.utils.Constants.DEFAULT_TENANT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MongoOcrRepositoryTest {
+
+	private MongoTemplate mongoTemplate;
+	private MongoOcrRepository ocrRepository;
+
+	@BeforeEach
+	void setUp() {
+		mongoTemplate = mock(MongoTemplate.class);
+		ocrRepository = new MongoOcrRepository(mongoTemplate);
+	}
+
+	@Test
+	void defaultTenantUsesLegacyCollection() {
+		ocrRepository.findAllById(DEFAULT_TENANT, List.of("contrato"));
+
+		verify(mongoTemplate).find(any(Query.class), eq(Tokens.class), eq("tokens"));
+	}
+
+	@Test
+	void tenantUsesItsOwnCollection() {
+		ocrRepository.findAllById("cliente-a", List.of("contrato"));
+		ocrRepository.deleteAllById("cliente-a", List.of("contrato"));
+
+		verify(mongoTemplate).find(any(Query.class), eq(Tokens.class), eq("tokens_cliente-a"));
+		verify(mongoTemplate).remove(any(Query.class), eq(Tokens.class), eq("tokens_cliente-a"));
+	}
+
+	@Test
+	void findAllTenantsMapsCollectionsBackToTenants() {
+		when(mongoTemplate.getCollectionNames()).thenReturn(Set.of("tokens", "tokens_cliente-a", "tokens_cliente_b", "outra"));
+
+		assertEquals(Set.of(DEFAULT_TENANT, "cliente-a", "cliente_b"), ocrRepository.findAllTenants());
+	}
+
+	@Test
+	void saveAllSkipsEmptyBatch() {
+		ocrRepository.saveAll("cliente-a", List.of());
+
+		verifyNoInteractions(mongoTemplate);
+	}
+}
@@ -0,0 +1,70 @@
+package com.poc.global.search.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Set;
+
+import static com.poc.global.search.utils.Constants.DEFAULT_TENANT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TenantUtilsTest {
+
+	private TenantUtils tenantUtils;
+
+	@BeforeEach
+	void setUp() {
+		tenantUtils = new TenantUtils();
+		ReflectionTestUtils.setField(tenantUtils, "allowedTenants", Set.of("cliente-a", "cliente_b"));
+	}
+
+	@ParameterizedTest
+	@NullAndEmptySource
+	@ValueSource(strings = {" "})
+	void resolvesBlankTenantToDefault(String tenantId) {
+		assertEquals(DEFAULT_TENANT, tenantUtils.resolve(tenantId));
+	}
+
+	@Test
+	void acceptsDefaultTenantWithoutRegistration() {
+		assertEquals(DEFAULT_TENANT, tenantUtils.resolve(DEFAULT_TENANT));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"cliente-a", "cliente_b"})
+	void acceptsAllowedTenants(String tenantId) {
+		assertEquals(tenantId, tenantUtils.resolve(tenantId));
+	}
+
+	@Test
+	void rejectsUnknownTenant() {
+		ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> tenantUtils.resolve("cliente-c"));
+
+		assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"cliente.a", "../tokens", "cliente a", "$where"})
+	void rejectsInvalidTenantId(String tenantId) {
+		ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> tenantUtils.resolve(tenantId));
+
+		assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+	}
+
+	@Test
+	void rejectsTenantIdLongerThan64Characters() {
+		String tenantId = "a".repeat(65);
+		ReflectionTestUtils.setField(tenantUtils, "allowedTenants", Set.of(tenantId));
+
+		ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> tenantUtils.resolve(tenantId));
+
+		assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+	}
+}
@@ -0,0 +1,118 @@
+package com.poc.global.search.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TokenNormalizerTest {
+
+	private static TokenNormalizer tokenNormalizer(boolean accentFolding, boolean stemming) {
+		TokenNormalizer tokenNormalizer = new TokenNormalizer();
+		ReflectionTestUtils.setField(tokenNormalizer, "accentFolding", accentFolding);
+		ReflectionTestUtils.setField(tokenNormalizer, "stemming", stemming);
+		return tokenNormalizer;
+	}
+
+	/**
+	 * A forma indexada (como aparece no arquivo) e a forma buscada devem gerar o mesmo token.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+			// Português
+			"contratações, contratação, contratacao",
+			"contratações, contratacao, contratacao",
+			"contratacoes, contratação, contratacao",
+			"ações, ação, acao",
+			"leões, leão, leao",
+			"pães, pão, pao",
+			"acoes, ação, acao",
+			"leoes, leão, leao",
+			"paes, pão, pao",
+			"razoes, razão, razao",
+			"padroes, padrão, padrao",
+			"animais, animal, animal",
+			"papéis, papel, papel",
+			"flores, flor, flor",
+			"meses, mês, mes",
+			"países, país, pais",
+			"documentos, documento, documento",
+			"padres, padre, padr",
+			"classes, classe, class",
+			// Espanhol
+			"contrataciones, contratación, contratacion",
+			"papeles, papel, papel",
+			// Inglês
+			"companies, company, company",
+			"addresses, address, address",
+			"stores, store, stor",
+			"files, file, fil",
+			"responses, response, respon",
+			"expenses, expense, expen",
+			"licenses, license, licen",
+	})
+	void indexAndQueryFormsShareTheSameToken(String indexForm, String queryForm, String expected) {
+		TokenNormalizer tokenNormalizer = tokenNormalizer(true, true);
+
+		assertEquals(expected, tokenNormalizer.normalize(indexForm));
+		assertEquals(expected, tokenNormalizer.normalize(queryForm));
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+			"heroes, heroe",
+			"potatoes, potatoe",
+			"héroes, heroe",
+			"shoes, shoe",
+			"series, serie",
+			"status, status",
+			"class, class",
+			"análisis, analisis",
+			"pais, pais",
+	})
+	void doesNotApplyPortugueseRulesToEnglishOrProtectedWords(String token, String expected) {
+		assertEquals(expected, tokenNormalizer(true, true).normalize(token));
+	}
+
+	@ParameterizedTest
+	@CsvSource({"contratações", "flores", "papéis", "países", "companies", "stores", "ações", "series", "responses",
+			"response", "expenses", "tenses", "intereses", "nurses"})
+	void normalizationIsIdempotent(String token) {
+		TokenNormalizer tokenNormalizer = tokenNormalizer(true, true);
+		String normalized = tokenNormalizer.normalize(token);
+
+		assertEquals(normalized, tokenNormalizer.normalize(normalized));
+	}
+
+	@Test
+	void foldsLettersWithoutCanonicalDecomposition() {
+		TokenNormalizer tokenNormalizer = tokenNormalizer(true, false);
+
+		assertEquals("strasse", tokenNormalizer.normalize("straße"));
+		assertEquals("lodz", tokenNormalizer.normalize("łódź"));
+	}
+
+	@Test
+	void keepsDiacriticsOfOtherScripts() {
+		TokenNormalizer tokenNormalizer = tokenNormalizer(true, true);
+
+		assertEquals("договор", tokenNormalizer.normalize("договор"));
+		assertEquals("йод", tokenNormalizer.normalize("йод"));
+		assertEquals("συμβόλαιο", tokenNormalizer.normalize("συμβόλαιο"));
+	}
+
+	@Test
+	void stemsAccentedPluralsWithoutFolding() {
+		TokenNormalizer tokenNormalizer = tokenNormalizer(false, true);
+
+		assertEquals("ação", tokenNormalizer.normalize("ações"));
+		assertEquals("contratação", tokenNormalizer.normalize("contratações"));
+	}
+
+	@Test
+	void keepsTokenWhenDisabled() {
+		assertEquals("contratações", tokenNormalizer(false, false).normalize("contratações"));
+	}
+}
@@ -0,0 +1,49 @@
+package com.poc.global.search.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenUtilsTest {
+
+	private TokenUtils tokenUtils;
+
+	@BeforeEach
+	void setUp() {
+		TokenNormalizer tokenNormalizer = new TokenNormalizer();
+		ReflectionTestUtils.setField(tokenNormalizer, "accentFolding", true);
+		ReflectionTestUtils.setField(tokenNormalizer, "stemming", true);
+		tokenUtils = new TokenUtils(tokenNormalizer);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"estado", "estados", "não", "nao", "pelo", "pelos", "também", "tambem"})
+	void removesStopWordsInEveryForm(String token) {
+		assertTrue(tokenUtils.getTokens(token).isEmpty());
+	}
+
+	@Test
+	void unaccentedQueryMatchesAccentedText() {
+		List<String> indexed = tokenUtils.getTokens("Contrato não assinado");
+
+		assertEquals(List.of("contrato", "assinado"), indexed);
+		assertEquals(indexed, tokenUtils.getTokens("contrato nao assinado"));
+	}
+
+	@Test
+	void keepsTokensInOtherScriptsAndDropsSymbolRuns() {
+		assertEquals(List.of("договор", "contrato"), tokenUtils.getTokens("договор ••• contrato"));
+	}
+
+	@Test
+	void removesShortAndNumericTokens() {
+		assertEquals(List.of("contrato"), tokenUtils.getTokens("o contrato 2024 de"));
+	}
+}